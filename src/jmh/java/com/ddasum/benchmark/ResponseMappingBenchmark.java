@@ -0,0 +1,145 @@
+package com.ddasum.benchmark;
+
+import com.ddasum.domain.payment.dto.PaymentResponse;
+import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.mapper.PaymentMapper;
+import com.ddasum.domain.reservation.dto.ReservationResponse;
+import com.ddasum.domain.reservation.entity.Reservation;
+import com.ddasum.domain.reservation.mapper.ReservationMapper;
+import com.ddasum.domain.review.dto.ReviewResponse;
+import com.ddasum.domain.review.entity.Review;
+import com.ddasum.domain.review.mapper.ReviewMapper;
+import com.ddasum.domain.user.entity.User;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseResponse;
+import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import com.ddasum.domain.vacanthouse.mapper.VacantHouseMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비교 (기존 ModelMapper 경로 vs 도메인 Mapper)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private VacantHouse vacantHouse;
+    private Review review;
+    private Reservation reservation;
+    private Payment payment;
+
+    @Setup
+    public void setUp() {
+        // 서비스에서 @PostConstruct 로 등록하던 typeMap 과 동일한 설정
+        modelMapper = new ModelMapper();
+        modelMapper.typeMap(Review.class, ReviewResponse.class)
+                .addMappings(mapper -> {
+                    mapper.map(src -> src.getUser().getId(), ReviewResponse::setUserId);
+                    mapper.map(src -> src.getVacantHouse().getId(), ReviewResponse::setVacantHouseId);
+                });
+        modelMapper.typeMap(Reservation.class, ReservationResponse.class)
+                .addMappings(mapper -> {
+                    mapper.map(src -> src.getUser().getId(), ReservationResponse::setUserId);
+                    mapper.map(src -> src.getVacantHouse().getId(), ReservationResponse::setVacantHouseId);
+                });
+        modelMapper.typeMap(Payment.class, PaymentResponse.class)
+                .addMappings(mapper -> mapper.map(src -> src.getReservation().getId(), PaymentResponse::setReservationId));
+
+        User user = new User();
+        user.setId(1L);
+        LocalDateTime now = LocalDateTime.now();
+        vacantHouse = VacantHouse.builder()
+                .id(10L)
+                .address("강원도 평창군 대관령면 올림픽로 1")
+                .region("강원")
+                .latitude(37.6)
+                .longitude(128.7)
+                .description("리모델링 완료된 단독주택")
+                .price(300000)
+                .available(true)
+                .imageUrl("/uploads/house.jpg")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        review = Review.builder()
+                .id(100L)
+                .user(user)
+                .vacantHouse(vacantHouse)
+                .rating(5)
+                .content("조용하고 깨끗합니다")
+                .imageUrl("/uploads/review.jpg")
+                .createdAt(now)
+                .build();
+        reservation = Reservation.builder()
+                .id(1000L)
+                .user(user)
+                .vacantHouse(vacantHouse)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(3))
+                .peopleCount(2)
+                .status(Reservation.STATUS_IN_PROGRESS)
+                .build();
+        payment = Payment.builder()
+                .id(10000L)
+                .reservation(reservation)
+                .paymentMethod("card")
+                .amount(300000)
+                .paymentDate(now)
+                .impUid("imp_123456789")
+                .merchantUid("merchant_123456789")
+                .build();
+    }
+
+    @Benchmark
+    public VacantHouseResponse vacantHouseModelMapper() {
+        return modelMapper.map(vacantHouse, VacantHouseResponse.class);
+    }
+
+    @Benchmark
+    public VacantHouseResponse vacantHouseMapper() {
+        return VacantHouseMapper.toResponse(vacantHouse);
+    }
+
+    @Benchmark
+    public ReviewResponse reviewModelMapper() {
+        return modelMapper.map(review, ReviewResponse.class);
+    }
+
+    @Benchmark
+    public ReviewResponse reviewMapper() {
+        return ReviewMapper.toResponse(review);
+    }
+
+    @Benchmark
+    public ReservationResponse reservationModelMapper() {
+        return modelMapper.map(reservation, ReservationResponse.class);
+    }
+
+    @Benchmark
+    public ReservationResponse reservationMapper() {
+        return ReservationMapper.toResponse(reservation);
+    }
+
+    @Benchmark
+    public PaymentResponse paymentModelMapper() {
+        return modelMapper.map(payment, PaymentResponse.class);
+    }
+
+    @Benchmark
+    public PaymentResponse paymentMapper() {
+        return PaymentMapper.toResponse(payment);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ddasum.core.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 캐시 통계 응답 (전체 + 키 접두어별)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private long size;
+    private long maximumSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRate;
+    private Map<String, RegionStats> regions; // 키의 첫 ':' 앞부분 기준
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegionStats {
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+        private double hitRate;
+    }
+
+    public static double hitRate(long hitCount, long missCount) {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ddasum.core.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 페이징 응답
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+
+    public static <T> CursorPageResponse<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return new CursorPageResponse<>(content, content.size(), hasNext, hasNext ? nextCursor : null);
+    }
+}
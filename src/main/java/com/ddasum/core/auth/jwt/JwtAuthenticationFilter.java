@@ -1,9 +1,11 @@
 package com.ddasum.core.auth.jwt;
 
 import com.ddasum.core.auth.service.TokenBlacklistService;
+import com.ddasum.core.auth.service.UserDetailsCacheService;
 import com.ddasum.core.constants.CommonConstants;
 import com.ddasum.core.exception.AuthenticationException;
 import com.ddasum.core.error.enums.ErrorCode;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,7 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -27,7 +28,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsCacheService userDetailsCacheService;
     private final TokenBlacklistService tokenBlacklistService;
     
     @Override
@@ -38,25 +39,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
             
             if (StringUtils.hasText(jwt)) {
+                // Access Token 검증 (한 번만 파싱, 이후 요청은 캐시된 클레임 사용)
+                Claims claims = jwtTokenProvider.getVerifiedAccessClaims(jwt);
+                
                 // 블랙리스트 확인
-                if (tokenBlacklistService.isBlacklisted(jwt)) {
+                if (tokenBlacklistService.isBlacklisted(jwtTokenProvider.getTokenId(claims, jwt))) {
                     log.warn("블랙리스트에 등록된 토큰으로 요청: {}", request.getRequestURI());
                     SecurityContextHolder.clearContext();
                     filterChain.doFilter(request, response);
                     return;
                 }
                 
-                // Access Token 검증
-                if (jwtTokenProvider.validateAccessToken(jwt)) {
-                    String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    
-                    UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+                UserDetails userDetails = userDetailsCacheService.loadUserByUsername(claims.getSubject());
+                
+                UsernamePasswordAuthenticationToken authentication = 
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (AuthenticationException e) {
             log.error("JWT 인증 실패: {}", e.getMessage());
@@ -3,6 +3,10 @@ package com.ddasum.core.auth.jwt;
 import com.ddasum.core.constants.CommonConstants;
 import com.ddasum.core.exception.AuthenticationException;
 import com.ddasum.core.error.enums.ErrorCode;
+import com.ddasum.core.util.CryptoUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -15,15 +19,30 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
     
+    private static final int MAX_VERIFIED_CACHE_SIZE = 10_000;
+    
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    // 검증 완료된 Access Token 클레임 캐시 (토큰 문자열 -> 클레임), 토큰 만료 시각에 맞춰 항목별로 만료
+    // 요청마다 토큰을 해시하지 않도록 토큰 문자열을 그대로 키로 쓴다 (항목당 수백 바이트)
+    // 가득 차면 전체를 비우지 않고 덜 쓰이는 항목부터 내보낸다
+    private final Cache<String, VerifiedClaims> verifiedAccessTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_CACHE_SIZE)
+            .expireAfter(new VerifiedClaimsExpiry())
+            .build();
     
     public JwtTokenProvider(@Value("${ddasum.jwt.secret}") String jwtSecret) {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
     
     /**
@@ -53,24 +72,38 @@ public class JwtTokenProvider {
         claims.put("tokenType", tokenType.name());
         
         return Jwts.builder()
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .addClaims(claims)
+                .id(UUID.randomUUID().toString())
+                .subject(userDetails.getUsername())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .claims(claims)
                 .signWith(secretKey, Jwts.SIG.HS512)
                 .compact();
     }
     
+    /**
+     * 토큰 식별자 반환 (128비트, 32자리 16진수)
+     * jti 가 없는 이전 토큰은 토큰 전체의 SHA-256 앞 128비트를 사용한다.
+     */
+    public String getTokenId(Claims claims, String token) {
+        String jti = claims.getId();
+        if (jti != null) {
+            try {
+                UUID uuid = UUID.fromString(jti);
+                return String.format("%016x%016x", uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            } catch (IllegalArgumentException e) {
+                return CryptoUtil.sha256(jti).substring(0, 32);
+            }
+        }
+        return CryptoUtil.sha256(token).substring(0, 32);
+    }
+    
     /**
      * JWT 토큰에서 사용자명 추출
      */
     public String getUsernameFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
             
             return claims.getSubject();
         } catch (JwtException e) {
@@ -84,11 +117,7 @@ public class JwtTokenProvider {
      */
     public TokenType getTokenType(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
             
             String tokenTypeStr = claims.get("tokenType", String.class);
             return TokenType.valueOf(tokenTypeStr);
@@ -103,10 +132,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             log.error("JWT 토큰 만료: {}", e.getMessage());
@@ -121,16 +147,41 @@ public class JwtTokenProvider {
      * Access Token 유효성 검증
      */
     public boolean validateAccessToken(String token) {
-        if (!validateToken(token)) {
-            return false;
+        getVerifiedAccessClaims(token);
+        return true;
+    }
+    
+    /**
+     * Access Token 검증 후 클레임 반환 (서명 검증은 토큰당 한 번, 이후 캐시 조회)
+     */
+    public Claims getVerifiedAccessClaims(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedClaims cached = verifiedAccessTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached.claims();
+            }
+            verifiedAccessTokens.invalidate(token);
+            throw new AuthenticationException(ErrorCode.EXPIRED_TOKEN);
         }
         
-        TokenType tokenType = getTokenType(token);
-        if (tokenType != TokenType.ACCESS_TOKEN) {
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            log.error("JWT 토큰 만료: {}", e.getMessage());
+            throw new AuthenticationException(ErrorCode.EXPIRED_TOKEN);
+        } catch (JwtException e) {
+            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
+            throw new AuthenticationException(ErrorCode.INVALID_TOKEN);
+        }
+        
+        if (!TokenType.ACCESS_TOKEN.name().equals(claims.get("tokenType", String.class))) {
             throw new AuthenticationException(ErrorCode.INVALID_TOKEN, "Access Token이 아닙니다");
         }
         
-        return true;
+        verifiedAccessTokens.put(token, new VerifiedClaims(claims, claims.getExpiration().getTime()));
+        return claims;
     }
     
     /**
@@ -154,11 +205,7 @@ public class JwtTokenProvider {
      */
     public Date getExpirationDateFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
             
             return claims.getExpiration();
         } catch (JwtException e) {
@@ -184,14 +231,38 @@ public class JwtTokenProvider {
      */
     public Claims getAllClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             log.error("JWT 토큰에서 클레임 추출 실패: {}", e.getMessage());
             throw new AuthenticationException(ErrorCode.INVALID_TOKEN);
         }
     }
+    
+    private record VerifiedClaims(Claims claims, long expiresAt) {
+    }
+    
+    /**
+     * 검증 캐시 항목은 토큰에 남은 유효시간만큼만 유지
+     */
+    private static class VerifiedClaimsExpiry implements Expiry<String, VerifiedClaims> {
+        
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+            return remainingNanos(value);
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return remainingNanos(value);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+        
+        private static long remainingNanos(VerifiedClaims value) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+        }
+    }
 } 
\ No newline at end of file
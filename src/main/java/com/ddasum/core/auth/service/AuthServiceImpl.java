@@ -12,6 +12,7 @@ import com.ddasum.core.error.enums.ErrorCode;
 import com.ddasum.core.service.EmailVerificationService;
 import com.ddasum.domain.user.entity.User;
 import com.ddasum.domain.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -99,12 +100,10 @@ public class AuthServiceImpl implements AuthService {
     public void logout(String accessToken, String refreshToken) {
         // 토큰을 블랙리스트에 추가
         if (accessToken != null) {
-            long accessTokenExpiration = jwtTokenProvider.getExpirationDateFromToken(accessToken).getTime();
-            tokenBlacklistService.addToBlacklist(accessToken, accessTokenExpiration);
+            addToBlacklist(accessToken);
         }
         if (refreshToken != null) {
-            long refreshTokenExpiration = jwtTokenProvider.getExpirationDateFromToken(refreshToken).getTime();
-            tokenBlacklistService.addToBlacklist(refreshToken, refreshTokenExpiration);
+            addToBlacklist(refreshToken);
         }
         
         log.info("로그아웃 완료");
@@ -119,12 +118,13 @@ public class AuthServiceImpl implements AuthService {
             }
             
             // 블랙리스트 확인
-            if (tokenBlacklistService.isBlacklisted(refreshRequest.getRefreshToken())) {
+            Claims refreshClaims = jwtTokenProvider.getAllClaimsFromToken(refreshRequest.getRefreshToken());
+            if (tokenBlacklistService.isBlacklisted(jwtTokenProvider.getTokenId(refreshClaims, refreshRequest.getRefreshToken()))) {
                 throw new AuthenticationException(ErrorCode.INVALID_TOKEN, "블랙리스트에 등록된 토큰입니다");
             }
             
             // 사용자 정보 추출
-            String username = jwtTokenProvider.getUsernameFromToken(refreshRequest.getRefreshToken());
+            String username = refreshClaims.getSubject();
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
             
             // 새로운 인증 객체 생성
@@ -137,8 +137,10 @@ public class AuthServiceImpl implements AuthService {
             String newRefreshToken = jwtTokenProvider.generateRefreshToken(authentication);
             
             // 기존 Refresh Token을 블랙리스트에 추가 (토큰 재사용 방지)
-            long oldRefreshTokenExpiration = jwtTokenProvider.getExpirationDateFromToken(refreshRequest.getRefreshToken()).getTime();
-            tokenBlacklistService.addToBlacklist(refreshRequest.getRefreshToken(), oldRefreshTokenExpiration);
+            tokenBlacklistService.addToBlacklist(
+                jwtTokenProvider.getTokenId(refreshClaims, refreshRequest.getRefreshToken()),
+                refreshClaims.getExpiration().getTime()
+            );
             
             return TokenRefreshResponse.builder()
                     .accessToken(newAccessToken)
@@ -159,14 +161,20 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public boolean validateToken(String token) {
         try {
-            // 블랙리스트 확인
-            if (tokenBlacklistService.isBlacklisted(token)) {
-                return false;
-            }
+            Claims claims = jwtTokenProvider.getVerifiedAccessClaims(token);
             
-            return jwtTokenProvider.validateAccessToken(token);
+            // 블랙리스트 확인
+            return !tokenBlacklistService.isBlacklisted(jwtTokenProvider.getTokenId(claims, token));
         } catch (Exception e) {
             return false;
         }
     }
+    
+    /**
+     * 토큰 ID 기준으로 블랙리스트 등록
+     */
+    private void addToBlacklist(String token) {
+        Claims claims = jwtTokenProvider.getAllClaimsFromToken(token);
+        tokenBlacklistService.addToBlacklist(jwtTokenProvider.getTokenId(claims, token), claims.getExpiration().getTime());
+    }
 } 
\ No newline at end of file
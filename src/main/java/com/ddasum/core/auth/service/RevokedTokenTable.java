@@ -0,0 +1,190 @@
+package com.ddasum.core.auth.service;
+
+import java.util.Arrays;
+
+/**
+ * 폐기 토큰 ID(128비트) 로컬 테이블
+ * 선형 탐사 오픈 어드레싱 배열에 (상위 64비트, 하위 64비트, 만료시각)을 저장하고,
+ * 만료시각 최소 힙으로 만료 항목을 오래된 순서대로 조금씩 꺼내 정리한다.
+ */
+class RevokedTokenTable {
+
+    private static final long EMPTY = 0L;
+    private static final long DELETED = -1L;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 해시 테이블 (expiries 가 EMPTY/DELETED 면 빈 슬롯)
+    private long[] his = new long[INITIAL_CAPACITY];
+    private long[] los = new long[INITIAL_CAPACITY];
+    private long[] expiries = new long[INITIAL_CAPACITY];
+    private int size;
+    private int used; // size + 삭제 표시 슬롯 수
+
+    // 만료시각 최소 힙
+    private long[] heapExpiries = new long[INITIAL_CAPACITY];
+    private long[] heapHis = new long[INITIAL_CAPACITY];
+    private long[] heapLos = new long[INITIAL_CAPACITY];
+    private int heapSize;
+
+    /**
+     * 폐기 ID 추가 (이미 있으면 만료시각 갱신)
+     */
+    synchronized void add(long hi, long lo, long expiresAt) {
+        if ((used + 1) * 2 > expiries.length) {
+            resize(size * 4 > expiries.length ? expiries.length * 2 : expiries.length);
+        }
+        int mask = expiries.length - 1;
+        int slot = indexFor(hi, lo, mask);
+        int firstDeleted = -1;
+        while (expiries[slot] != EMPTY) {
+            if (expiries[slot] == DELETED) {
+                if (firstDeleted < 0) {
+                    firstDeleted = slot;
+                }
+            } else if (his[slot] == hi && los[slot] == lo) {
+                if (expiresAt > expiries[slot]) {
+                    expiries[slot] = expiresAt;
+                    heapPush(expiresAt, hi, lo);
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (firstDeleted >= 0) {
+            slot = firstDeleted;
+        } else {
+            used++;
+        }
+        his[slot] = hi;
+        los[slot] = lo;
+        expiries[slot] = expiresAt;
+        size++;
+        heapPush(expiresAt, hi, lo);
+    }
+
+    /**
+     * 폐기 ID 포함 여부 (만료된 항목은 없는 것으로 본다)
+     */
+    synchronized boolean contains(long hi, long lo, long now) {
+        int slot = find(hi, lo);
+        return slot >= 0 && expiries[slot] > now;
+    }
+
+    /**
+     * 만료된 항목을 만료시각 순서로 최대 maxRemovals 개 정리
+     */
+    synchronized int removeExpired(long now, int maxRemovals) {
+        int removed = 0;
+        while (heapSize > 0 && heapExpiries[0] <= now && removed < maxRemovals) {
+            long expiresAt = heapExpiries[0];
+            long hi = heapHis[0];
+            long lo = heapLos[0];
+            heapPop();
+            int slot = find(hi, lo);
+            // 만료시각이 나중에 갱신된 항목은 최신 힙 항목이 처리한다
+            if (slot >= 0 && expiries[slot] == expiresAt) {
+                expiries[slot] = DELETED;
+                size--;
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private int find(long hi, long lo) {
+        int mask = expiries.length - 1;
+        int slot = indexFor(hi, lo, mask);
+        while (expiries[slot] != EMPTY) {
+            if (expiries[slot] != DELETED && his[slot] == hi && los[slot] == lo) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHis = his;
+        long[] oldLos = los;
+        long[] oldExpiries = expiries;
+        his = new long[capacity];
+        los = new long[capacity];
+        expiries = new long[capacity];
+        used = 0;
+        int mask = capacity - 1;
+        for (int i = 0; i < oldExpiries.length; i++) {
+            if (oldExpiries[i] != EMPTY && oldExpiries[i] != DELETED) {
+                int slot = indexFor(oldHis[i], oldLos[i], mask);
+                while (expiries[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                his[slot] = oldHis[i];
+                los[slot] = oldLos[i];
+                expiries[slot] = oldExpiries[i];
+                used++;
+            }
+        }
+    }
+
+    private static int indexFor(long hi, long lo, int mask) {
+        // 입력이 UUID/해시라 이미 고르게 분포하지만 한 번 더 섞는다
+        long h = hi ^ (lo * 0x9E3779B97F4A7C15L);
+        h ^= (h >>> 32);
+        return (int) h & mask;
+    }
+
+    private void heapPush(long expiresAt, long hi, long lo) {
+        if (heapSize == heapExpiries.length) {
+            int capacity = heapExpiries.length * 2;
+            heapExpiries = Arrays.copyOf(heapExpiries, capacity);
+            heapHis = Arrays.copyOf(heapHis, capacity);
+            heapLos = Arrays.copyOf(heapLos, capacity);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapExpiries[parent] <= expiresAt) {
+                break;
+            }
+            heapSet(i, heapExpiries[parent], heapHis[parent], heapLos[parent]);
+            i = parent;
+        }
+        heapSet(i, expiresAt, hi, lo);
+    }
+
+    private void heapPop() {
+        int last = --heapSize;
+        if (last == 0) {
+            return;
+        }
+        long expiresAt = heapExpiries[last];
+        long hi = heapHis[last];
+        long lo = heapLos[last];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapExpiries[child + 1] < heapExpiries[child]) {
+                child++;
+            }
+            if (heapExpiries[child] >= expiresAt) {
+                break;
+            }
+            heapSet(i, heapExpiries[child], heapHis[child], heapLos[child]);
+            i = child;
+        }
+        heapSet(i, expiresAt, hi, lo);
+    }
+
+    private void heapSet(int i, long expiresAt, long hi, long lo) {
+        heapExpiries[i] = expiresAt;
+        heapHis[i] = hi;
+        heapLos[i] = lo;
+    }
+}
@@ -1,80 +1,212 @@
 package com.ddasum.core.auth.service;
 
+import com.ddasum.core.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 토큰 블랙리스트 (Redis 저장 + 로컬 블룸 필터 + 로컬 폐기 ID 테이블)
+ * 폐기 토큰은 토큰 ID(jti, 128비트)를 키로, 남은 유효시간을 TTL 로 Redis 에 저장되어 모든 인스턴스가 공유한다.
+ * "폐기되지 않음" 판정은 로컬 블룸 필터만으로 끝나고, 필터가 양성이면 로컬 테이블, 그래도 없을 때만 Redis 를 조회한다.
+ * 시작 시 필터를 Redis 에서 채우지 못하면 필터를 믿지 않고 매번 Redis 를 조회하며(장애 시 폐기로 간주),
+ * 재구성에 성공할 때까지 1분마다 다시 시도한다.
+ */
 @Slf4j
 @Service
-public class TokenBlacklistService {
-    
-    private final ConcurrentHashMap<String, Long> blacklistedTokens = new ConcurrentHashMap<>();
+public class TokenBlacklistService implements MessageListener {
+
+    private static final String KEY_PREFIX = "auth:blacklist:";
+    private static final String CHANNEL = "auth:blacklist";
+    private static final int EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final int CLEANUP_BATCH_SIZE = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    
-    public TokenBlacklistService() {
-        // 매일 자정에 만료된 토큰들을 정리
-        scheduler.scheduleAtFixedRate(this::cleanupExpiredTokens, 24, 24, TimeUnit.HOURS);
+    private final RevokedTokenTable revokedTokens = new RevokedTokenTable();
+
+    private volatile BloomFilter bloomFilter = newBloomFilter();
+    // 재구성 중인 필터 (재구성 도중 추가된 토큰도 반영되도록)
+    private volatile BloomFilter rebuildingFilter;
+    // Redis 기준 재구성에 한 번이라도 성공했는지 (그 전의 필터는 비어 있어 "폐기되지 않음" 판정에 쓸 수 없다)
+    private volatile boolean bloomFilterReady;
+
+    public TokenBlacklistService(RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuildBloomFilter();
+        // 블룸 필터는 삭제를 지원하지 않으므로 매시간 Redis 기준으로 재구성해 만료 토큰을 걸러낸다
+        scheduler.scheduleAtFixedRate(this::rebuildBloomFilter, 1, 1, TimeUnit.HOURS);
+        // 시작 시 재구성에 실패했으면 성공할 때까지 자주 다시 시도
+        scheduler.scheduleWithFixedDelay(() -> {
+            if (!bloomFilterReady) {
+                rebuildBloomFilter();
+            }
+        }, 1, 1, TimeUnit.MINUTES);
+        // 로컬 테이블은 만료 순서대로 조금씩 정리
+        scheduler.scheduleWithFixedDelay(this::cleanupExpiredTokens, 1, 1, TimeUnit.MINUTES);
     }
-    
+
     /**
-     * 토큰을 블랙리스트에 추가
+     * 토큰을 블랙리스트에 추가 (tokenId 는 JwtTokenProvider.getTokenId 값)
+     * Redis 에 저장하지 못하면 다른 인스턴스에서는 토큰이 계속 유효하므로 예외를 던져 로그아웃/갱신을 실패시킨다.
      */
-    public void addToBlacklist(String token, long expirationTime) {
-        blacklistedTokens.put(token, expirationTime);
-        log.info("토큰이 블랙리스트에 추가되었습니다: {}", token.substring(0, Math.min(10, token.length())) + "...");
+    public void addToBlacklist(String tokenId, long expirationTime) {
+        long ttlMillis = expirationTime - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return; // 이미 만료된 토큰은 저장할 필요 없음
+        }
+        // Redis 에 먼저 저장해야 이후 시작되는 블룸 필터 재구성 SCAN 이 이 토큰을 놓치지 않는다
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, String.valueOf(expirationTime), ttlMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // 이 인스턴스에서라도 막아 두고, 요청은 실패로 돌려 다시 시도하게 한다
+            addLocal(tokenId, expirationTime);
+            log.error("블랙리스트 Redis 저장 실패: {}", e.getMessage());
+            throw new IllegalStateException("토큰 폐기를 저장하지 못했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        addLocal(tokenId, expirationTime);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenId + ":" + expirationTime);
+        } catch (Exception e) {
+            // Redis 에는 저장됐으므로 다른 인스턴스는 필터 재구성/Redis 조회로 알게 된다
+            log.error("블랙리스트 메시지 발행 실패: {}", e.getMessage());
+        }
+        log.info("토큰이 블랙리스트에 추가되었습니다: {}", tokenId);
     }
-    
+
     /**
      * 토큰이 블랙리스트에 있는지 확인
      */
-    public boolean isBlacklisted(String token) {
-        Long expirationTime = blacklistedTokens.get(token);
-        if (expirationTime == null) {
+    public boolean isBlacklisted(String tokenId) {
+        if (bloomFilterReady && !bloomFilter.mightContain(tokenId)) {
             return false;
         }
-        
-        // 만료된 토큰이면 블랙리스트에서 제거
-        if (System.currentTimeMillis() > expirationTime) {
-            blacklistedTokens.remove(token);
-            return false;
+        long now = System.currentTimeMillis();
+        if (revokedTokens.contains(high(tokenId), low(tokenId), now)) {
+            return true;
+        }
+        // 블룸 필터 오탐이거나 놓친 메시지일 수 있으므로 Redis 로 확인
+        try {
+            String expiration = redisTemplate.opsForValue().get(KEY_PREFIX + tokenId);
+            if (expiration == null) {
+                return false;
+            }
+            revokedTokens.add(high(tokenId), low(tokenId), Long.parseLong(expiration));
+            return true;
+        } catch (Exception e) {
+            // Redis 장애 시 블룸 필터 양성(또는 필터를 아직 채우지 못함)이면 폐기된 것으로 간주 (fail-closed)
+            log.error("블랙리스트 Redis 조회 실패: {}", e.getMessage());
+            return true;
         }
-        
-        return true;
     }
-    
+
     /**
-     * 만료된 토큰들을 정리
+     * 다른 인스턴스에서 발행한 폐기 토큰 반영
      */
-    private void cleanupExpiredTokens() {
-        long currentTime = System.currentTimeMillis();
-        int removedCount = 0;
-        
-        for (var entry : blacklistedTokens.entrySet()) {
-            if (currentTime > entry.getValue()) {
-                blacklistedTokens.remove(entry.getKey());
-                removedCount++;
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            addLocal(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 블랙리스트 메시지: {}", body);
+        }
+    }
+
+    private void addLocal(String tokenId, long expirationTime) {
+        revokedTokens.add(high(tokenId), low(tokenId), expirationTime);
+        // 넣는 사이에 재구성이 끝나 필터가 교체됐으면 새 필터에도 다시 넣는다
+        BloomFilter current = bloomFilter;
+        while (true) {
+            current.put(tokenId);
+            BloomFilter rebuilding = rebuildingFilter;
+            if (rebuilding != null) {
+                rebuilding.put(tokenId);
             }
+            BloomFilter latest = bloomFilter;
+            if (latest == current) {
+                return;
+            }
+            current = latest;
         }
-        
-        if (removedCount > 0) {
-            log.info("블랙리스트에서 {}개의 만료된 토큰이 제거되었습니다", removedCount);
+    }
+
+    private void cleanupExpiredTokens() {
+        int removed = revokedTokens.removeExpired(System.currentTimeMillis(), CLEANUP_BATCH_SIZE);
+        if (removed > 0) {
+            log.info("블랙리스트에서 {}개의 만료된 토큰이 제거되었습니다", removed);
         }
     }
-    
+
+    private static long high(String tokenId) {
+        return Long.parseUnsignedLong(tokenId.substring(0, 16), 16);
+    }
+
+    private static long low(String tokenId) {
+        return Long.parseUnsignedLong(tokenId.substring(16, 32), 16);
+    }
+
     /**
-     * 블랙리스트 크기 반환
+     * Redis 에 남아 있는 폐기 토큰으로 블룸 필터 재구성
      */
-    public int getBlacklistSize() {
-        return blacklistedTokens.size();
+    synchronized void rebuildBloomFilter() {
+        BloomFilter rebuilt = newBloomFilter();
+        rebuildingFilter = rebuilt;
+        try {
+            int count = redisTemplate.execute((RedisCallback<Integer>) connection -> {
+                int scanned = 0;
+                ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                        rebuilt.put(key.substring(KEY_PREFIX.length()));
+                        scanned++;
+                    }
+                }
+                return scanned;
+            });
+            bloomFilter = rebuilt;
+            bloomFilterReady = true;
+            log.info("블랙리스트 블룸 필터 재구성 완료: {}건", count);
+        } catch (Exception e) {
+            log.error("블랙리스트 블룸 필터 재구성 실패: {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private static BloomFilter newBloomFilter() {
+        return new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
     }
-    
+
     /**
      * 서비스 종료 시 정리
      */
+    @PreDestroy
     public void shutdown() {
         scheduler.shutdown();
         try {
@@ -86,4 +218,4 @@ public class TokenBlacklistService {
             Thread.currentThread().interrupt();
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package com.ddasum.core.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터용 사용자 정보 캐시
+ * 요청마다 DB에서 사용자를 다시 읽지 않도록 일정 시간 보관하고, 사용자 변경 시 명시적으로 무효화한다.
+ * 무효화는 Redis 채널로 다른 인스턴스에도 전파되어, 변경/삭제된 사용자가 TTL 동안 다른 인스턴스에서 인증되지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDetailsCacheService implements MessageListener {
+
+    private static final String CHANNEL = "auth:user-details:invalidation";
+    private static final long TTL_MINUTES = 5;
+    private static final int MAX_SIZE = 10_000;
+
+    private final UserDetailsService userDetailsService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    // 가득 차면 전체를 비우지 않고 덜 쓰이는 항목부터 내보낸다
+    private final Cache<String, UserDetails> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 사용자 정보 조회 (캐시 미스 시 DB 조회 후 저장)
+     */
+    public UserDetails loadUserByUsername(String username) {
+        return cache.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    /**
+     * 사용자 정보 캐시 무효화 (이메일/아이디 모두 전달 가능)
+     */
+    public void evict(String... usernames) {
+        for (String username : usernames) {
+            if (username == null) {
+                continue;
+            }
+            evictLocal(username);
+            publish(username);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 반영 (형식: nodeId|username)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || body.startsWith(nodeId + "|")) {
+            return;
+        }
+        evictLocal(body.substring(separator + 1));
+    }
+
+    /**
+     * 캐시 크기 반환
+     */
+    public int size() {
+        return (int) cache.estimatedSize();
+    }
+
+    private void evictLocal(String username) {
+        if (cache.asMap().remove(username) != null) {
+            log.debug("사용자 정보 캐시 무효화: {}", username);
+        }
+    }
+
+    private void publish(String username) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + username);
+        } catch (Exception e) {
+            log.warn("사용자 정보 캐시 무효화 메시지 발행 실패: {} - {}", username, e.getMessage());
+        }
+    }
+}
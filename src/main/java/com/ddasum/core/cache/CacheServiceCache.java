@@ -0,0 +1,104 @@
+package com.ddasum.core.cache;
+
+import com.ddasum.core.service.CacheService;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheService 위에 올린 Spring Cache 구현
+ * 항목은 "캐시이름:세대:키" 로 저장되므로 CacheService 통계가 캐시 이름별로 집계된다.
+ * clear 는 키를 찾아 지우지 않고 세대 값만 바꿔 이전 항목을 더 이상 조회되지 않게 한다
+ * (Redis 전체 키 SCAN 없이 O(1), 이전 세대 항목은 TTL 로 사라진다).
+ * 세대 값도 CacheService 에 저장되므로 변경이 무효화 메시지로 다른 인스턴스에 전파된다.
+ */
+public class CacheServiceCache extends AbstractValueAdaptingCache {
+
+    private static final String GENERATION_KEY_PREFIX = "cachegen:";
+    // 세대 값 보관 기간 (만료되어도 새 세대가 만들어질 뿐 이전 항목이 되살아나지는 않는다)
+    private static final long GENERATION_TTL_HOURS = 24;
+
+    private final String name;
+    private final CacheService cacheService;
+    private final Duration ttl;
+    private final String keyPrefix;
+    private final String generationKey;
+
+    public CacheServiceCache(String name, CacheService cacheService, Duration ttl) {
+        super(false);
+        this.name = name;
+        this.cacheService = cacheService;
+        this.ttl = ttl;
+        this.keyPrefix = name + ":";
+        this.generationKey = GENERATION_KEY_PREFIX + name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return cacheService;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return cacheService.get(cacheKey(key), Object.class).orElse(null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value != null) {
+            cacheService.put(cacheKey(key), value, ttl.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        cacheService.delete(cacheKey(key));
+    }
+
+    @Override
+    public void clear() {
+        cacheService.put(generationKey, newGeneration(), GENERATION_TTL_HOURS, TimeUnit.HOURS);
+    }
+
+    private String cacheKey(Object key) {
+        return keyPrefix + generation() + ":" + key;
+    }
+
+    private String generation() {
+        String generation = cacheService.get(generationKey, String.class).orElse(null);
+        if (generation == null) {
+            generation = newGeneration();
+            cacheService.put(generationKey, generation, GENERATION_TTL_HOURS, TimeUnit.HOURS);
+        }
+        return generation;
+    }
+
+    private static String newGeneration() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,47 @@
+package com.ddasum.core.cache;
+
+import com.ddasum.core.service.CacheService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheService 기반 CacheManager
+ * 캐시별 TTL 은 ddasum.cache.ttl.{캐시이름} 으로 지정하고, 없으면 ddasum.cache.default-ttl 을 사용한다.
+ * 트랜잭션 안에서의 저장/삭제는 커밋 후에 반영한다 (커밋 전 무효화 직후 다른 요청이 이전 값을 다시 캐싱하지 않도록).
+ */
+public class CacheServiceCacheManager implements CacheManager {
+
+    private static final String TTL_PROPERTY_PREFIX = "ddasum.cache.ttl.";
+
+    private final CacheService cacheService;
+    private final Environment environment;
+    private final Duration defaultTtl;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public CacheServiceCacheManager(CacheService cacheService, Environment environment, Duration defaultTtl) {
+        this.cacheService = cacheService;
+        this.environment = environment;
+        this.defaultTtl = defaultTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new TransactionAwareCacheDecorator(new CacheServiceCache(
+                cacheName,
+                cacheService,
+                environment.getProperty(TTL_PROPERTY_PREFIX + cacheName, Duration.class, defaultTtl))));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+}
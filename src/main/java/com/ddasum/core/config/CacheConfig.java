@@ -0,0 +1,24 @@
+package com.ddasum.core.config;
+
+import com.ddasum.core.cache.CacheServiceCacheManager;
+import com.ddasum.core.service.CacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheService cacheService,
+                                     Environment environment,
+                                     @Value("${ddasum.cache.default-ttl:10m}") Duration defaultTtl) {
+        return new CacheServiceCacheManager(cacheService, environment, defaultTtl);
+    }
+}
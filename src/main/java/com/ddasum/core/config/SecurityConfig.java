@@ -34,6 +34,10 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(authz -> authz
+                .requestMatchers(
+                    "/actuator/metrics",
+                    "/actuator/metrics/**"
+                ).hasRole("ADMIN")
                 .requestMatchers(
                     CommonConstants.API_BASE_PATH + "/auth/**",
                     CommonConstants.API_BASE_PATH + "/public/**",
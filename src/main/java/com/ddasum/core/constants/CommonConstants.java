@@ -28,6 +28,11 @@ public class CommonConstants {
     public static final String DATE_FORMAT = "yyyy-MM-dd";
     public static final String DATETIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
     
+    // 페이징 관련
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int EXPORT_FETCH_SIZE = 500; // 스트리밍 내보내기 시 JDBC fetch size
+    
     // 파일 관련
     public static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
     public static final String[] ALLOWED_FILE_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".pdf", ".doc", ".docx"};
@@ -3,15 +3,20 @@ package com.ddasum.core.controller;
 import com.ddasum.core.api.response.ApiResponse;
 import com.ddasum.core.constants.CommonConstants;
 import com.ddasum.core.logging.LogUtil;
+import com.ddasum.core.util.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @RestController
@@ -41,6 +46,18 @@ public abstract class BaseController {
         return ResponseEntity.ok(ApiResponse.ok(page));
     }
 
+    /**
+     * NDJSON 스트리밍 응답 생성 (exporter 가 넘기는 항목을 한 줄에 한 건씩 바로 출력)
+     */
+    protected <T> ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper objectMapper, Consumer<Consumer<T>> exporter) {
+        StreamingResponseBody body = out -> {
+            try (NdjsonWriter<T> writer = new NdjsonWriter<>(objectMapper, out)) {
+                exporter.accept(writer);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * 현재 인증된 사용자명 가져오기
      */
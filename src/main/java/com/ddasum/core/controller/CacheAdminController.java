@@ -0,0 +1,26 @@
+package com.ddasum.core.controller;
+
+import com.ddasum.core.annotation.AdminOnly;
+import com.ddasum.core.api.response.ApiResponse;
+import com.ddasum.core.api.response.CacheStatsResponse;
+import com.ddasum.core.constants.CommonConstants;
+import com.ddasum.core.service.CacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@AdminOnly
+@RestController
+@RequestMapping(CommonConstants.API_BASE_PATH + "/admin/cache")
+@RequiredArgsConstructor
+public class CacheAdminController extends BaseController {
+    private final CacheService cacheService;
+
+    // 캐시 적중률 통계 (캐시 이름별)
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getStats() {
+        return success(cacheService.stats());
+    }
+}
@@ -3,6 +3,7 @@ package com.ddasum.core.controller;
 import com.ddasum.core.api.response.ApiResponse;
 import com.ddasum.core.annotation.LoginRequired;
 import com.ddasum.core.annotation.TraceLog;
+import com.ddasum.core.auth.service.UserDetailsCacheService;
 import com.ddasum.domain.user.entity.User;
 import com.ddasum.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserController extends BaseController {
     private final UserRepository userRepository;
+    private final UserDetailsCacheService userDetailsCacheService;
 
     // 전체 사용자 목록 (페이징)
     @GetMapping
@@ -48,11 +50,15 @@ public class UserController extends BaseController {
     public ResponseEntity<ApiResponse<User>> updateUser(@PathVariable Long id, @RequestBody User user) {
         return userRepository.findById(id)
                 .map(existing -> {
+                    String previousEmail = existing.getEmail();
+                    String previousUsername = existing.getUsername();
                     existing.setUsername(user.getUsername());
                     existing.setPassword(user.getPassword());
                     existing.setEmail(user.getEmail());
                     existing.setRole(user.getRole());
                     User updated = userRepository.save(existing);
+                    // 변경 전 식별자로 캐시된 인증 정보 무효화
+                    userDetailsCacheService.evict(previousEmail, previousUsername);
                     return success(updated, "사용자 정보가 수정되었습니다");
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -61,11 +67,12 @@ public class UserController extends BaseController {
     // 사용자 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id) {
-        if (userRepository.existsById(id)) {
-            userRepository.deleteById(id);
-            return success(null, "사용자가 삭제되었습니다");
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+        return userRepository.findById(id)
+                .map(existing -> {
+                    userRepository.delete(existing);
+                    userDetailsCacheService.evict(existing.getEmail(), existing.getUsername());
+                    return this.<Void>success(null, "사용자가 삭제되었습니다");
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.ddasum.core.service;
 
+import com.ddasum.core.api.response.CacheStatsResponse;
+
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -56,7 +58,17 @@ public interface CacheService {
     Iterable<String> keys();
     
     /**
-     * 캐시 키 패턴으로 조회
+     * 캐시 키 패턴으로 조회 (glob: '*' 임의 문자열, '?' 한 문자, 예: "house:*")
      */
     Iterable<String> keys(String pattern);
+    
+    /**
+     * 접두어로 시작하는 캐시 일괄 삭제 (삭제된 항목 수 반환)
+     */
+    int deleteByPrefix(String prefix);
+    
+    /**
+     * 캐시 통계 조회 (적중/미스/축출, 키 접두어별)
+     */
+    CacheStatsResponse stats();
 } 
\ No newline at end of file
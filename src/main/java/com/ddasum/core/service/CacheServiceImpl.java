@@ -1,174 +1,313 @@
 package com.ddasum.core.service;
 
+import com.ddasum.core.api.response.CacheStatsResponse;
 import com.ddasum.core.logging.LogUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
 
+/**
+ * 로컬 캐시 (Caffeine)
+ * 최대 크기를 넘으면 W-TinyLFU 정책으로 축출하고, 항목별 TTL 은 타이머 휠로 만료시킨다.
+ * 통계는 키의 첫 ':' 앞부분(예: "user:1" -> "user")을 영역으로 보고 영역별로 집계한다.
+ * 키는 정렬된 인덱스에도 보관해 접두어 조회/삭제가 전체 키가 아닌 일치 항목 수에 비례하도록 한다.
+ */
 @Slf4j
 @Service
 public class CacheServiceImpl implements CacheService {
-    
-    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    
-    public CacheServiceImpl() {
-        // 매 5분마다 만료된 캐시 정리
-        scheduler.scheduleAtFixedRate(this::cleanupExpiredEntries, 5, 5, TimeUnit.MINUTES);
-    }
-    
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+    private static final String DEFAULT_REGION = "default";
+    private static final String OTHER_REGION = "other";
+    private static final int MAX_REGIONS = 256;
+
+    private final Cache<String, CacheEntry> cache;
+    private final long maximumSize;
+    private final boolean logEnabled;
+    private final Map<String, RegionCounter> regionCounters = new ConcurrentHashMap<>();
+    private final NavigableSet<String> keyIndex = new ConcurrentSkipListSet<>();
+
+    public CacheServiceImpl(@Value("${ddasum.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${ddasum.cache.log-enabled:false}") boolean logEnabled) {
+        this.maximumSize = maximumSize;
+        this.logEnabled = logEnabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .evictionListener(this::onEviction)
+                .removalListener(this::onRemoval)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
     @Override
     public void put(String key, Object value) {
-        cache.put(key, new CacheEntry(value, -1));
-        LogUtil.logBusiness("캐시 저장: {}", key);
+        // 저장 전에 인덱스에 먼저 넣어 패턴/접두어 삭제가 막 저장된 키를 놓치지 않게 한다
+        keyIndex.add(key);
+        cache.put(key, new CacheEntry(value, NO_EXPIRY));
+        reindexKey(key);
+        if (logEnabled) {
+            LogUtil.logBusiness("캐시 저장: {}", key);
+        }
     }
-    
+
     @Override
     public void put(String key, Object value, long ttl, TimeUnit timeUnit) {
-        long expirationTime = System.currentTimeMillis() + timeUnit.toMillis(ttl);
-        cache.put(key, new CacheEntry(value, expirationTime));
-        LogUtil.logBusiness("캐시 저장 (TTL): {} -> {} {}", key, ttl, timeUnit);
+        keyIndex.add(key);
+        cache.put(key, new CacheEntry(value, timeUnit.toNanos(ttl)));
+        reindexKey(key);
+        if (logEnabled) {
+            LogUtil.logBusiness("캐시 저장 (TTL): {} -> {} {}", key, ttl, timeUnit);
+        }
     }
-    
+
     @Override
     public <T> Optional<T> get(String key, Class<T> type) {
-        CacheEntry entry = cache.get(key);
-        if (entry != null && !entry.isExpired()) {
-            try {
-                @SuppressWarnings("unchecked")
-                T value = (T) entry.getValue();
-                LogUtil.logBusiness("캐시 조회: {}", key);
-                return Optional.of(value);
-            } catch (ClassCastException e) {
-                log.warn("캐시 타입 불일치: {} -> {}", key, type.getSimpleName());
-                return Optional.empty();
-            }
+        CacheEntry entry = cache.getIfPresent(key);
+        RegionCounter counter = counterFor(key);
+        if (entry == null) {
+            counter.misses.increment();
+            return Optional.empty();
+        }
+        counter.hits.increment();
+        if (!type.isInstance(entry.value())) {
+            log.warn("캐시 타입 불일치: {} -> {}", key, type.getSimpleName());
+            return Optional.empty();
         }
-        return Optional.empty();
+        if (logEnabled) {
+            LogUtil.logBusiness("캐시 조회: {}", key);
+        }
+        return Optional.of(type.cast(entry.value()));
     }
-    
+
     @Override
     public <T> T get(String key, Class<T> type, T defaultValue) {
         return get(key, type).orElse(defaultValue);
     }
-    
+
     @Override
     public void delete(String key) {
-        CacheEntry removed = cache.remove(key);
-        if (removed != null) {
+        cache.invalidate(key);
+        if (logEnabled) {
             LogUtil.logBusiness("캐시 삭제: {}", key);
         }
     }
-    
+
     @Override
     public boolean exists(String key) {
-        CacheEntry entry = cache.get(key);
-        return entry != null && !entry.isExpired();
+        // 존재 확인은 적중/미스 통계와 빈도 기록에 반영하지 않는다
+        return cache.policy().getIfPresentQuietly(key) != null;
     }
-    
+
     @Override
     public void expire(String key, long ttl, TimeUnit timeUnit) {
-        CacheEntry entry = cache.get(key);
-        if (entry != null) {
-            long expirationTime = System.currentTimeMillis() + timeUnit.toMillis(ttl);
-            entry.setExpirationTime(expirationTime);
-            LogUtil.logBusiness("캐시 만료 시간 설정: {} -> {} {}", key, ttl, timeUnit);
-        }
+        cache.policy().expireVariably().ifPresent(policy -> {
+            if (policy.setExpiresAfter(key, ttl, timeUnit) && logEnabled) {
+                LogUtil.logBusiness("캐시 만료 시간 설정: {} -> {} {}", key, ttl, timeUnit);
+            }
+        });
     }
-    
+
     @Override
     public void clear() {
-        int size = cache.size();
-        cache.clear();
+        long size = cache.estimatedSize();
+        cache.invalidateAll();
         LogUtil.logBusiness("캐시 전체 삭제: {} 개 항목", size);
     }
-    
+
     @Override
     public long size() {
-        return cache.size();
+        return cache.estimatedSize();
     }
-    
+
     @Override
     public Iterable<String> keys() {
-        return cache.keySet();
+        return cache.asMap().keySet();
     }
-    
+
     @Override
     public Iterable<String> keys(String pattern) {
-        return cache.keySet().stream()
-                .filter(key -> key.matches(pattern))
-                .collect(Collectors.toList());
+        int wildcard = indexOfWildcard(pattern);
+        if (wildcard < 0) {
+            return exists(pattern) ? List.of(pattern) : List.of();
+        }
+        String prefix = pattern.substring(0, wildcard);
+        // "prefix*" 형태는 인덱스 범위 조회만으로 끝나고, 그 외에는 접두어 범위 안에서만 패턴을 검사한다
+        Pattern compiled = wildcard == pattern.length() - 1 && pattern.charAt(wildcard) == '*'
+                ? null
+                : globToPattern(pattern);
+        List<String> matches = new ArrayList<>();
+        for (String key : keyIndex.tailSet(prefix)) {
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (compiled == null || compiled.matcher(key).matches()) {
+                matches.add(key);
+            }
+        }
+        return matches;
     }
-    
-    /**
-     * 만료된 캐시 항목 정리
-     */
-    private void cleanupExpiredEntries() {
-        long currentTime = System.currentTimeMillis();
-        AtomicInteger removedCount = new AtomicInteger(0);
-        
-        cache.entrySet().removeIf(entry -> {
-            if (entry.getValue().isExpired(currentTime)) {
-                removedCount.incrementAndGet();
-                return true;
+
+    @Override
+    public int deleteByPrefix(String prefix) {
+        List<String> matches = new ArrayList<>();
+        for (String key : keyIndex.tailSet(prefix)) {
+            if (!key.startsWith(prefix)) {
+                break;
             }
-            return false;
+            matches.add(key);
+        }
+        cache.invalidateAll(matches);
+        if (logEnabled) {
+            LogUtil.logBusiness("캐시 접두어 삭제: {}* ({} 개 항목)", prefix, matches.size());
+        }
+        return matches.size();
+    }
+
+    @Override
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        Map<String, CacheStatsResponse.RegionStats> regions = new TreeMap<>();
+        regionCounters.forEach((region, counter) -> {
+            long hits = counter.hits.sum();
+            long misses = counter.misses.sum();
+            regions.put(region, CacheStatsResponse.RegionStats.builder()
+                    .hitCount(hits)
+                    .missCount(misses)
+                    .evictionCount(counter.evictions.sum())
+                    .hitRate(CacheStatsResponse.hitRate(hits, misses))
+                    .build());
         });
-        
-        if (removedCount.get() > 0) {
-            log.info("만료된 캐시 항목 {}개 정리 완료", removedCount.get());
+        return CacheStatsResponse.builder()
+                .size(cache.estimatedSize())
+                .maximumSize(maximumSize)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .regions(regions)
+                .build();
+    }
+
+    // 저장 도중 같은 키의 이전 항목 제거 리스너가 인덱스를 지웠으면 다시 넣는다
+    private void reindexKey(String key) {
+        if (!keyIndex.contains(key) && cache.asMap().containsKey(key)) {
+            keyIndex.add(key);
         }
     }
-    
-    /**
-     * 캐시 항목 클래스
-     */
-    private static class CacheEntry {
-        private final Object value;
-        private long expirationTime;
-        
-        public CacheEntry(Object value, long expirationTime) {
-            this.value = value;
-            this.expirationTime = expirationTime;
+
+    private void onEviction(String key, CacheEntry entry, RemovalCause cause) {
+        if (key != null && cause.wasEvicted()) {
+            counterFor(key).evictions.increment();
         }
-        
-        public Object getValue() {
-            return value;
+    }
+
+    private void onRemoval(String key, CacheEntry entry, RemovalCause cause) {
+        if (key == null || cause == RemovalCause.REPLACED) {
+            return;
         }
-        
-        public void setExpirationTime(long expirationTime) {
-            this.expirationTime = expirationTime;
+        keyIndex.remove(key);
+        // 제거 직후 같은 키로 다시 저장된 경우 인덱스 복구
+        if (cache.asMap().containsKey(key)) {
+            keyIndex.add(key);
         }
-        
-        public boolean isExpired() {
-            return isExpired(System.currentTimeMillis());
+    }
+
+    private static int indexOfWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder(glob.length() + 8);
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' || c == '?') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
         }
-        
-        public boolean isExpired(long currentTime) {
-            return expirationTime > 0 && currentTime > expirationTime;
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
         }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
     }
-    
+
+    private RegionCounter counterFor(String key) {
+        int separator = key.indexOf(':');
+        String region = separator > 0 ? key.substring(0, separator) : DEFAULT_REGION;
+        RegionCounter counter = regionCounters.get(region);
+        if (counter != null) {
+            return counter;
+        }
+        // 접두어 종류가 비정상적으로 많아지면 하나로 묶어 통계 맵이 무한히 커지지 않게 한다
+        if (regionCounters.size() >= MAX_REGIONS) {
+            return regionCounters.computeIfAbsent(OTHER_REGION, k -> new RegionCounter());
+        }
+        return regionCounters.computeIfAbsent(region, k -> new RegionCounter());
+    }
+
     /**
-     * 서비스 종료 시 정리
+     * 캐시 항목 (ttlNanos 는 저장/갱신 시점부터의 유효시간, NO_EXPIRY 면 만료 없음)
      */
-    public void shutdown() {
-        scheduler.shutdown();
-        try {
-            if (!scheduler.awaitTermination(60, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            scheduler.shutdownNow();
-            Thread.currentThread().interrupt();
+    private record CacheEntry(Object value, long ttlNanos) {
+    }
+
+    /**
+     * 항목별 TTL 적용 (조회는 남은 시간을 바꾸지 않음)
+     */
+    private static class EntryExpiry implements Expiry<String, CacheEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, CacheEntry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CacheEntry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
         }
+
+        @Override
+        public long expireAfterRead(String key, CacheEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static class RegionCounter {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,316 @@
+package com.ddasum.core.service;
+
+import com.ddasum.core.api.response.CacheStatsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Pattern;
+
+/**
+ * 2단 캐시 (L1: 로컬 CacheServiceImpl, L2: Redis)
+ * 조회는 L1 -> L2 순서로 하고, L2 적중 시 L1 에 채운다.
+ * 저장/삭제 시 무효화 메시지를 발행해 다른 인스턴스의 L1 사본을 제거한다 (L2 는 공유되므로 그대로 둔다).
+ * L2 에서 읽어 L1 을 채우는 동안 같은 키(또는 접두어/전체)가 무효화되면 읽은 값은 이전 값일 수 있으므로,
+ * 읽기 전후의 무효화 버전을 비교해 달라졌으면 L1 에 남기지 않는다.
+ */
+@Slf4j
+@Primary
+@Service
+public class NearCacheService implements CacheService, MessageListener {
+
+    private static final String KEY_PREFIX = "cache:";
+    private static final String CHANNEL = "cache:invalidation";
+    private static final char OP_KEY = 'K';
+    private static final char OP_PREFIX = 'P';
+    private static final char OP_CLEAR = 'C';
+    private static final int VERSION_STRIPES = 1024;
+    // 역직렬화 시 타입 정보로 만들 수 있는 클래스 (캐시에 넣는 응답 DTO 와 그 목록/맵만)
+    private static final Pattern CACHED_DTO_TYPES =
+            Pattern.compile("com\\.ddasum\\.(domain\\.\\w+|core\\.\\w+)\\.dto\\..+|com\\.ddasum\\.core\\.api\\.response\\..+");
+
+    private final CacheServiceImpl localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final long remoteTtlSeconds;
+    // 로컬(L1) 최대 TTL (1초 미만 TTL 이 0 으로 잘리지 않도록 나노초로 다룬다)
+    private final long localTtlNanos;
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 인스턴스 ID
+    private final String nodeId = UUID.randomUUID().toString();
+    // L1 무효화 버전 (키 해시 구간별 + 접두어/전체 무효화용 전역, 둘 다 증가만 하므로 합이 같으면 무효화가 없었다)
+    private final AtomicLongArray keyVersions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    public NearCacheService(CacheServiceImpl localCache,
+                            RedisTemplate<String, String> redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            ObjectMapper objectMapper,
+                            @Value("${ddasum.cache.remote-ttl-seconds:600}") long remoteTtlSeconds,
+                            @Value("${ddasum.cache.local-ttl-seconds:300}") long localTtlSeconds) {
+        this.localCache = localCache;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        // 조회 시 지정한 타입 안의 중첩 객체(List 요소 등)도 복원되도록 타입 정보를 함께 저장
+        // Redis 값의 타입 정보로 임의 클래스를 만들지 않도록 허용 타입을 캐시 대상 DTO 와 기본 컬렉션으로 한정한다
+        this.objectMapper = objectMapper.copy().activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType(CACHED_DTO_TYPES)
+                        .allowIfSubType(ArrayList.class)
+                        .allowIfSubType(LinkedList.class)
+                        .allowIfSubType(HashMap.class)
+                        .allowIfSubType(LinkedHashMap.class)
+                        .allowIfSubType(HashSet.class)
+                        .allowIfSubType(LinkedHashSet.class)
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL);
+        this.remoteTtlSeconds = remoteTtlSeconds;
+        this.localTtlNanos = TimeUnit.SECONDS.toNanos(localTtlSeconds);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        put(key, value, remoteTtlSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void put(String key, Object value, long ttl, TimeUnit timeUnit) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(value), ttl, timeUnit);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 직렬화 실패: {} - {}", key, e.getMessage());
+        } catch (Exception e) {
+            log.warn("Redis 캐시 저장 실패: {} - {}", key, e.getMessage());
+        }
+        // L2 를 바꾼 뒤 버전을 올려, 그 전에 이전 값을 읽고 있던 L1 채우기가 새 값을 덮어쓰지 않게 한다
+        keyVersions.incrementAndGet(stripe(key));
+        localCache.put(key, value, Math.min(timeUnit.toNanos(ttl), localTtlNanos), TimeUnit.NANOSECONDS);
+        publish(OP_KEY, key);
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Optional<T> local = localCache.get(key, type);
+        if (local.isPresent()) {
+            return local;
+        }
+        long version = version(key);
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (json == null) {
+                return Optional.empty();
+            }
+            T value = objectMapper.readValue(json, type);
+            fillLocal(key, value, version);
+            return Optional.ofNullable(value);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 역직렬화 실패: {} -> {}", key, type.getSimpleName());
+            return Optional.empty();
+        } catch (Exception e) {
+            // Redis 장애 시 캐시 미스로 처리 (원본 조회로 진행)
+            log.warn("Redis 캐시 조회 실패: {} - {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> type, T defaultValue) {
+        return get(key, type).orElse(defaultValue);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 삭제 실패: {} - {}", key, e.getMessage());
+        }
+        invalidateLocal(key);
+        publish(OP_KEY, key);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        if (localCache.exists(key)) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + key));
+        } catch (Exception e) {
+            log.warn("Redis 캐시 확인 실패: {} - {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void expire(String key, long ttl, TimeUnit timeUnit) {
+        localCache.expire(key, Math.min(timeUnit.toNanos(ttl), localTtlNanos), TimeUnit.NANOSECONDS);
+        try {
+            redisTemplate.expire(KEY_PREFIX + key, ttl, timeUnit);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 만료 설정 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        deleteRemoteByPrefix("");
+        clearLocal();
+        publish(OP_CLEAR, "");
+    }
+
+    /**
+     * 로컬(L1) 캐시 크기
+     */
+    @Override
+    public long size() {
+        return localCache.size();
+    }
+
+    /**
+     * 로컬(L1) 캐시 키 목록
+     */
+    @Override
+    public Iterable<String> keys() {
+        return localCache.keys();
+    }
+
+    /**
+     * 로컬(L1) 캐시 키 패턴 조회
+     */
+    @Override
+    public Iterable<String> keys(String pattern) {
+        return localCache.keys(pattern);
+    }
+
+    @Override
+    public int deleteByPrefix(String prefix) {
+        deleteRemoteByPrefix(prefix);
+        int removed = invalidateLocalPrefix(prefix);
+        publish(OP_PREFIX, prefix);
+        return removed;
+    }
+
+    /**
+     * 로컬(L1) 캐시 통계
+     */
+    @Override
+    public CacheStatsResponse stats() {
+        return localCache.stats();
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 반영 (형식: nodeId|op|key)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf('|');
+        if (first < 0 || body.length() < first + 3 || body.startsWith(nodeId + "|")) {
+            return;
+        }
+        char op = body.charAt(first + 1);
+        String key = body.substring(first + 3);
+        switch (op) {
+            case OP_KEY -> invalidateLocal(key);
+            case OP_PREFIX -> invalidateLocalPrefix(key);
+            case OP_CLEAR -> clearLocal();
+            default -> log.warn("잘못된 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    // L2 에서 읽은 값을 L1 에 채운다 (읽기 시작 후 무효화됐으면 남기지 않음)
+    // 넣은 뒤에 다시 확인해, 확인과 넣기 사이에 끼어든 무효화도 놓치지 않는다
+    private void fillLocal(String key, Object value, long version) {
+        if (version(key) != version) {
+            return;
+        }
+        localCache.put(key, value, localTtlNanos, TimeUnit.NANOSECONDS);
+        if (version(key) != version) {
+            localCache.delete(key);
+        }
+    }
+
+    // 무효화는 버전을 먼저 올리고 L1 을 지운다
+    private void invalidateLocal(String key) {
+        keyVersions.incrementAndGet(stripe(key));
+        localCache.delete(key);
+    }
+
+    private int invalidateLocalPrefix(String prefix) {
+        globalVersion.incrementAndGet();
+        return localCache.deleteByPrefix(prefix);
+    }
+
+    private void clearLocal() {
+        globalVersion.incrementAndGet();
+        localCache.clear();
+    }
+
+    private long version(String key) {
+        return globalVersion.get() + keyVersions.get(stripe(key));
+    }
+
+    private static int stripe(String key) {
+        return Math.floorMod(key.hashCode(), VERSION_STRIPES);
+    }
+
+    private void publish(char op, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + op + "|" + key);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    private void deleteRemoteByPrefix(String prefix) {
+        try {
+            List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+                List<String> found = new ArrayList<>();
+                ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + prefix + "*").count(1000).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        found.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                    }
+                }
+                return found;
+            });
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 캐시 접두어 삭제 실패: {} - {}", prefix, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ddasum.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class CursorUtil {
+
+    private static final String DELIMITER = ":";
+
+    /**
+     * 커서 값들을 불투명한 토큰으로 인코딩
+     */
+    public static String encode(Object... values) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                raw.append(DELIMITER);
+            }
+            raw.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 값 배열로 디코딩 (null/빈 값이면 null 반환)
+     */
+    public static String[] decode(String cursor, int expectedLength) {
+        if (StringUtil.isEmpty(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split(DELIMITER, -1);
+            if (values.length != expectedLength) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    private CursorUtil() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+}
@@ -0,0 +1,49 @@
+package com.ddasum.core.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON(줄 단위 JSON) 출력기
+ * 한 건씩 바로 출력 스트림에 쓰므로 전체 목록을 메모리에 올리지 않는다.
+ */
+public class NdjsonWriter<T> implements Consumer<T>, AutoCloseable {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ObjectMapper objectMapper;
+    private final JsonGenerator generator;
+    private long count;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.objectMapper = objectMapper;
+        this.generator = objectMapper.getFactory().createGenerator(out);
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            objectMapper.writeValue(generator, value);
+            generator.writeRaw('\n');
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
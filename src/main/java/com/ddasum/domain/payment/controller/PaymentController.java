@@ -6,6 +6,15 @@ import com.ddasum.core.annotation.TraceLog;
 import com.ddasum.core.controller.BaseController;
 import com.ddasum.domain.payment.dto.*;
 import com.ddasum.domain.payment.service.PaymentService;
+import com.ddasum.core.annotation.AdminOnly;
+import com.ddasum.core.constants.CommonConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,12 +27,19 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PaymentController extends BaseController {
     private final PaymentService paymentService;
+    private final ObjectMapper objectMapper;
 
+    // 결제 접수 (PENDING 으로 바로 응답, 검증 결과는 /status/{merchantUid} 로 확인)
     @PostMapping
     public ResponseEntity<ApiResponse<PaymentResponse>> create(@RequestBody PaymentRequest request) {
         return success(paymentService.create(request));
     }
 
+    @GetMapping("/status/{merchantUid}")
+    public ResponseEntity<ApiResponse<PaymentResponse>> getStatus(@PathVariable String merchantUid) {
+        return success(paymentService.getStatus(merchantUid));
+    }
+
     @PostMapping("/cancel")
     public ResponseEntity<ApiResponse<Void>> cancel(@RequestParam String impUid, @RequestParam String reason) {
         paymentService.cancel(impUid, reason);
@@ -40,6 +56,19 @@ public class PaymentController extends BaseController {
         return success(paymentService.getAll());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<Page<PaymentResponse>>> getPage(
+            @PageableDefault(size = CommonConstants.DEFAULT_PAGE_SIZE, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        return successPage(paymentService.getAll(pageable));
+    }
+
+    // 관리자용 전체 내보내기 (NDJSON 스트리밍, 한 줄에 한 건)
+    @AdminOnly
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjson(objectMapper, paymentService::exportAll);
+    }
+
     @GetMapping("/reservation/{reservationId}")
     public ResponseEntity<ApiResponse<List<PaymentResponse>>> getByReservationId(@PathVariable Long reservationId) {
         return success(paymentService.getByReservationId(reservationId));
@@ -0,0 +1,40 @@
+package com.ddasum.domain.payment.controller;
+
+import com.ddasum.core.annotation.AdminOnly;
+import com.ddasum.core.api.response.ApiResponse;
+import com.ddasum.core.constants.CommonConstants;
+import com.ddasum.core.controller.BaseController;
+import com.ddasum.domain.payment.dto.PaymentReconciliationResponse;
+import com.ddasum.domain.payment.service.PaymentReconciliationJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@AdminOnly
+@RestController
+@RequestMapping(CommonConstants.API_BASE_PATH + "/admin/payments/reconciliation")
+@RequiredArgsConstructor
+public class PaymentReconciliationController extends BaseController {
+    private final PaymentReconciliationJob paymentReconciliationJob;
+
+    // 결제 대사 수동 실행 (백그라운드 진행, 결과는 GET 으로 확인)
+    // 이미 진행 중이면 409, 그 밖의 오류는 GlobalExceptionHandler 가 응답한다
+    @PostMapping
+    public ResponseEntity<ApiResponse<PaymentReconciliationResponse>> trigger() {
+        try {
+            return success(paymentReconciliationJob.trigger());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage(), "PAYMENT_RECONCILIATION_RUNNING"));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<PaymentReconciliationResponse>> getLastResult() {
+        return success(paymentReconciliationJob.getLastResult());
+    }
+}
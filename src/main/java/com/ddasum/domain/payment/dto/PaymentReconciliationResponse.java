@@ -0,0 +1,29 @@
+package com.ddasum.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사 실행 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentReconciliationResponse {
+    private String status; // RUNNING, COMPLETED, FAILED
+    private long checkedCount;
+    private long matchedCount;
+    private long mismatchCount; // 금액/상태 불일치, Iamport 에 없는 결제
+    private long errorCount;    // Iamport 호출 실패
+    private double paymentsPerSecond;
+    private String reportFile;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;
+    private String message;
+}
@@ -1,4 +1,5 @@
 package com.ddasum.domain.payment.dto;
+import com.ddasum.domain.payment.entity.PaymentStatus;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,4 +18,6 @@ public class PaymentResponse {
     private LocalDateTime paymentDate;
     private String impUid;
     private String merchantUid;
+    private PaymentStatus status;
+    private String failureReason;
 } 
\ No newline at end of file
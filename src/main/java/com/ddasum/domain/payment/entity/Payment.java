@@ -3,10 +3,22 @@ package com.ddasum.domain.payment.entity;
 import com.ddasum.domain.reservation.entity.Reservation;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TBL_PAYMENT")
+@Table(name = "TBL_PAYMENT", uniqueConstraints = {
+        // 결제 요청 멱등 키
+        @UniqueConstraint(name = "uk_payment_merchant_uid", columnNames = "merchantUid"),
+        // 결제 검증/웹훅에서 아임포트 결제 고유번호로 조회
+        @UniqueConstraint(name = "uk_payment_imp_uid", columnNames = "impUid")
+}, indexes = {
+        @Index(name = "idx_payment_status", columnList = "status, id"),
+        @Index(name = "idx_payment_reservation", columnList = "reservation_id"),
+        // 대사 대상 기간 조회
+        @Index(name = "idx_payment_requested_at", columnList = "requestedAt, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,12 +29,24 @@ public class Payment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    // 실패한 결제 후 같은 예약으로 다시 결제할 수 있도록 예약당 여러 건 허용
+    @ManyToOne(fetch = FetchType.LAZY)
     private Reservation reservation;
 
     private String paymentMethod;
     private int amount;
-    private LocalDateTime paymentDate;
+    private LocalDateTime paymentDate; // 검증 완료 시각
     private String impUid;      // 아임포트 결제 고유번호
+    @Column(nullable = false, length = 100)
     private String merchantUid; // 가맹점 주문번호
-} 
\ No newline at end of file
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private PaymentStatus status = PaymentStatus.PENDING;
+
+    private String failureReason;
+    private LocalDateTime requestedAt; // 접수 시각 (대사 기간 조건, 비어 있지 않음)
+    private LocalDateTime cancelRequestedAt; // 취소 요청(CANCELLING 선점) 시각
+} 
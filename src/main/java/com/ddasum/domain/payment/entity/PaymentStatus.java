@@ -0,0 +1,14 @@
+package com.ddasum.domain.payment.entity;
+
+/**
+ * 결제 상태
+ * PENDING -> PAID | FAILED, PAID -> CANCELLING -> CANCELLED (Iamport 가 취소를 거절하면 PAID 로 복구)
+ * 결과를 모른 채 CANCELLING 에 남은 결제는 주기 점검이 Iamport 상태를 보고 CANCELLED/PAID 로 확정한다
+ */
+public enum PaymentStatus {
+    PENDING,    // 접수됨, Iamport 검증 대기
+    PAID,       // 검증 완료
+    FAILED,     // 검증 실패 (금액/주문번호 불일치, 미결제 등)
+    CANCELLING, // 취소 요청 중
+    CANCELLED
+}
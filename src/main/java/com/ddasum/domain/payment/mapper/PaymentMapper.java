@@ -0,0 +1,27 @@
+package com.ddasum.domain.payment.mapper;
+
+import com.ddasum.domain.payment.dto.PaymentResponse;
+import com.ddasum.domain.payment.entity.Payment;
+
+/**
+ * 결제 엔티티 -> 응답 DTO 변환 (예약은 ID만 사용하므로 지연 로딩 프록시를 초기화하지 않음)
+ */
+public final class PaymentMapper {
+
+    private PaymentMapper() {
+    }
+
+    public static PaymentResponse toResponse(Payment entity) {
+        return PaymentResponse.builder()
+                .id(entity.getId())
+                .reservationId(entity.getReservation() != null ? entity.getReservation().getId() : null)
+                .paymentMethod(entity.getPaymentMethod())
+                .amount(entity.getAmount())
+                .paymentDate(entity.getPaymentDate())
+                .impUid(entity.getImpUid())
+                .merchantUid(entity.getMerchantUid())
+                .status(entity.getStatus())
+                .failureReason(entity.getFailureReason())
+                .build();
+    }
+}
@@ -1,11 +1,98 @@
 package com.ddasum.domain.payment.repository;
 
+import com.ddasum.core.constants.CommonConstants;
+import com.ddasum.domain.payment.dto.PaymentResponse;
 import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.entity.PaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByReservation_Id(Long reservationId);
     Payment findByImpUid(String impUid);
     Payment findByMerchantUid(String merchantUid);
-} 
\ No newline at end of file
+
+    // 응답 DTO 직접 조회 (FK 컬럼만 읽으므로 예약을 조인/초기화하지 않음)
+    // 목록은 엔티티 조회 시절과 같은 id 오름차순으로 반환한다
+    String RESPONSE_SELECT = "select new com.ddasum.domain.payment.dto.PaymentResponse(" +
+            "p.id, p.reservation.id, p.paymentMethod, p.amount, p.paymentDate, p.impUid, p.merchantUid, p.status, p.failureReason) " +
+            "from Payment p ";
+
+    @Query(RESPONSE_SELECT + "order by p.id")
+    List<PaymentResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "where p.reservation.id = :reservationId order by p.id")
+    List<PaymentResponse> findResponsesByReservationId(@Param("reservationId") Long reservationId);
+
+    // 상태 조회(폴링)용 - 캐시를 거치지 않는다
+    @Query(RESPONSE_SELECT + "where p.merchantUid = :merchantUid")
+    PaymentResponse findResponseByMerchantUid(@Param("merchantUid") String merchantUid);
+
+    @Query(value = RESPONSE_SELECT, countQuery = "select count(p) from Payment p")
+    Page<PaymentResponse> findResponsePage(Pageable pageable);
+
+    // 내보내기용 스트림 (호출 측 트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + CommonConstants.EXPORT_FETCH_SIZE))
+    @Query(RESPONSE_SELECT + "order by p.id")
+    Stream<PaymentResponse> streamAllResponses();
+
+    // 대사용 키셋 청크 (id 순으로 afterId 다음부터)
+    // requested_at 은 V9 에서 모두 채웠으므로 함수로 감싸지 않고 그대로 범위 조건으로 쓴다 (idx_payment_requested_at)
+    @Query("select p from Payment p where p.id > :afterId and p.impUid is not null " +
+            "and p.status in :statuses and p.requestedAt >= :since order by p.id")
+    List<Payment> findReconciliationChunk(@Param("afterId") Long afterId,
+                                          @Param("statuses") Collection<PaymentStatus> statuses,
+                                          @Param("since") LocalDateTime since,
+                                          Pageable pageable);
+
+    // 검증이 끝나지 않은 오래된 접수 건 (idx_payment_status 의 (status, id) 범위로 읽는다)
+    @Query("select p.id from Payment p where p.status = com.ddasum.domain.payment.entity.PaymentStatus.PENDING " +
+            "and p.id > :afterId and p.requestedAt < :requestedBefore order by p.id")
+    List<Long> findStalePendingIds(@Param("afterId") Long afterId,
+                                   @Param("requestedBefore") LocalDateTime requestedBefore,
+                                   Pageable pageable);
+
+    // 취소 결과를 확정하지 못한 오래된 취소 요청 건 (idx_payment_status 의 (status, id) 범위로 읽는다)
+    @Query("select p.id from Payment p where p.status = com.ddasum.domain.payment.entity.PaymentStatus.CANCELLING " +
+            "and p.id > :afterId and p.cancelRequestedAt < :requestedBefore order by p.id")
+    List<Long> findStaleCancellingIds(@Param("afterId") Long afterId,
+                                      @Param("requestedBefore") LocalDateTime requestedBefore,
+                                      Pageable pageable);
+
+    // 상태 전이는 현재 상태를 조건으로 UPDATE 한 건으로 끝낸다 (반환값 0 이면 다른 요청이 먼저 바꾼 것)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = :to, p.failureReason = :failureReason " +
+            "where p.id = :id and p.status = :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") PaymentStatus from,
+                     @Param("to") PaymentStatus to,
+                     @Param("failureReason") String failureReason);
+
+    // 취소 선점 (PAID -> CANCELLING, 선점 시각을 남겨 결과를 모르는 채 남은 건을 주기 점검이 찾게 한다)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = com.ddasum.domain.payment.entity.PaymentStatus.CANCELLING, " +
+            "p.cancelRequestedAt = :requestedAt " +
+            "where p.id = :id and p.status = com.ddasum.domain.payment.entity.PaymentStatus.PAID")
+    int markCancelling(@Param("id") Long id, @Param("requestedAt") LocalDateTime requestedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = com.ddasum.domain.payment.entity.PaymentStatus.PAID, " +
+            "p.paymentDate = :paymentDate, p.failureReason = null " +
+            "where p.id = :id and p.status = com.ddasum.domain.payment.entity.PaymentStatus.PENDING")
+    int markPaid(@Param("id") Long id, @Param("paymentDate") LocalDateTime paymentDate);
+}
@@ -0,0 +1,115 @@
+package com.ddasum.domain.payment.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Iamport API 호출 실행기
+ * 모든 호출을 서킷 브레이커(연속 실패/지연 시 일정 시간 즉시 거절)와 벌크헤드(동시 호출 수 제한)로 감싸고,
+ * 엔드포인트/결과별 지연시간을 히스토그램 타이머(iamport.api)로 기록한다.
+ * 4xx 응답은 요청 자체의 문제이므로 서킷 브레이커 실패로 세지 않는다.
+ */
+@Slf4j
+@Component
+public class IamportApiExecutor {
+
+    public static final String ENDPOINT_GET_TOKEN = "getToken";
+    public static final String ENDPOINT_PAYMENT = "payments/{uid}";
+    public static final String ENDPOINT_CANCEL = "cancel";
+    private static final String NAME = "iamport";
+    private static final String METRIC_NAME = "iamport.api";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public IamportApiExecutor(MeterRegistry meterRegistry,
+                              @Value("${iamport.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                              @Value("${iamport.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                              @Value("${iamport.circuit-breaker.slow-call-duration:5s}") Duration slowCallDuration,
+                              @Value("${iamport.circuit-breaker.wait-in-open-state:30s}") Duration waitInOpenState,
+                              @Value("${iamport.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+                              @Value("${iamport.bulkhead.max-wait:500ms}") Duration maxWait) {
+        this(meterRegistry,
+                CircuitBreakerConfig.custom()
+                        .failureRateThreshold(failureRateThreshold)
+                        .slowCallRateThreshold(failureRateThreshold)
+                        .slowCallDurationThreshold(slowCallDuration)
+                        .slidingWindowSize(slidingWindowSize)
+                        .minimumNumberOfCalls(Math.min(slidingWindowSize, 10))
+                        .waitDurationInOpenState(waitInOpenState)
+                        .ignoreExceptions(HttpClientErrorException.class, BulkheadFullException.class)
+                        .build(),
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(maxConcurrentCalls)
+                        .maxWaitDuration(maxWait)
+                        .build());
+    }
+
+    public IamportApiExecutor(MeterRegistry meterRegistry, CircuitBreakerConfig circuitBreakerConfig, BulkheadConfig bulkheadConfig) {
+        this.meterRegistry = meterRegistry;
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Iamport 서킷 브레이커 상태 변경: {}", event.getStateTransition()));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * 호출 실행 (endpoint 는 지표 태그로 쓰이므로 경로 변수 없이 고정 이름을 넘긴다)
+     */
+    public <T> T execute(String endpoint, Supplier<T> call) {
+        Supplier<T> decorated = CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return decorated.get();
+        } catch (CallNotPermittedException e) {
+            outcome = "rejected";
+            throw new IllegalStateException("결제 대행사 응답 지연으로 잠시 후 다시 시도해주세요.", e);
+        } catch (BulkheadFullException e) {
+            outcome = "rejected";
+            throw new IllegalStateException("결제 요청이 많아 잠시 후 다시 시도해주세요.", e);
+        } catch (HttpClientErrorException e) {
+            outcome = "client_error";
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Iamport API 호출 지연시간")
+                    .tag("endpoint", endpoint)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+}
@@ -1,46 +1,69 @@
 package com.ddasum.domain.payment.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @Slf4j
 public class IamportService {
-    @Value("${iamport.api-key}")
-    private String apiKey;
-    @Value("${iamport.api-secret}")
-    private String apiSecret;
+    private final RestTemplate restTemplate;
+    private final IamportTokenProvider tokenProvider;
+    private final IamportApiExecutor apiExecutor;
+    private final String baseUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    public IamportService(@Qualifier("iamportRestTemplate") RestTemplate restTemplate,
+                          IamportTokenProvider tokenProvider,
+                          IamportApiExecutor apiExecutor,
+                          @Value("${iamport.base-url:https://api.iamport.kr}") String baseUrl) {
+        this.restTemplate = restTemplate;
+        this.tokenProvider = tokenProvider;
+        this.apiExecutor = apiExecutor;
+        this.baseUrl = baseUrl;
+    }
 
     public String getAccessToken() {
-        String url = "https://api.iamport.kr/users/getToken";
-        Map<String, String> hashMap = Map.of("imp_key", apiKey, "imp_secret", apiSecret);
-        ResponseEntity<Map> response = restTemplate.postForEntity(url, hashMap, Map.class);
-        return (String) ((Map) response.getBody().get("response")).get("access_token");
+        return tokenProvider.getAccessToken();
     }
 
     public Map verifyPayment(String impUid) {
-        String token = getAccessToken();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(token);
-        HttpEntity<?> entity = new HttpEntity<>(headers);
-        String url = "https://api.iamport.kr/payments/" + impUid;
-        ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-        return (Map) response.getBody().get("response");
+        return withToken(IamportApiExecutor.ENDPOINT_PAYMENT, token -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(token);
+            HttpEntity<?> entity = new HttpEntity<>(headers);
+            String url = baseUrl + "/payments/" + impUid;
+            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            return (Map) response.getBody().get("response");
+        });
     }
 
     public void cancelPayment(String impUid, int amount, String reason) {
-        String token = getAccessToken();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(token);
-        Map<String, Object> hashMap = Map.of("imp_uid", impUid, "amount", amount, "reason", reason);
-        HttpEntity<Map<String, Object>> httpHashMap = new HttpEntity<>(hashMap, headers);
-        String url = "https://api.iamport.kr/payments/cancel";
-        restTemplate.postForEntity(url, httpHashMap, Map.class);
+        withToken(IamportApiExecutor.ENDPOINT_CANCEL, token -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(token);
+            Map<String, Object> hashMap = Map.of("imp_uid", impUid, "amount", amount, "reason", reason);
+            HttpEntity<Map<String, Object>> httpHashMap = new HttpEntity<>(hashMap, headers);
+            String url = baseUrl + "/payments/cancel";
+            return restTemplate.postForEntity(url, httpHashMap, Map.class);
+        });
+    }
+
+    // 캐시된 토큰이 거절되면(401) 폐기 후 새 토큰으로 한 번만 재시도
+    private <T> T withToken(String endpoint, Function<String, T> call) {
+        String token = tokenProvider.getAccessToken();
+        try {
+            return apiExecutor.execute(endpoint, () -> call.apply(token));
+        } catch (HttpClientErrorException.Unauthorized e) {
+            log.warn("Iamport 토큰 거절, 재발급 후 재시도");
+            tokenProvider.invalidate(token);
+            String reissued = tokenProvider.getAccessToken();
+            return apiExecutor.execute(endpoint, () -> call.apply(reissued));
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,181 @@
+package com.ddasum.domain.payment.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Iamport 액세스 토큰 보관
+ * 발급받은 토큰을 만료시각과 함께 캐시하고, 만료 refresh-ahead 초 전에 백그라운드에서 미리 재발급한다.
+ * 캐시가 비었거나 만료된 상태에서 동시에 요청이 몰려도 토큰 발급 요청은 한 번만 나간다 (single-flight).
+ * 만료시각은 응답의 now/expired_at 차이로 계산해 서버와의 시계 차이에 영향받지 않는다.
+ */
+@Slf4j
+@Component
+public class IamportTokenProvider {
+
+    // 토큰 전달/요청 처리 시간 동안 만료되지 않도록 남겨두는 여유
+    private static final long EXPIRY_MARGIN_MILLIS = 1_000;
+    private static final long RETRY_DELAY_MILLIS = 30_000;
+
+    private final RestTemplate restTemplate;
+    private final IamportApiExecutor apiExecutor;
+    private final String tokenUrl;
+    private final Map<String, String> credentials;
+    private final long refreshAheadMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "iamport-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlight = new AtomicReference<>();
+
+    private volatile CachedToken cached;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    public IamportTokenProvider(@Qualifier("iamportRestTemplate") RestTemplate restTemplate,
+                                IamportApiExecutor apiExecutor,
+                                @Value("${iamport.base-url:https://api.iamport.kr}") String baseUrl,
+                                @Value("${iamport.api-key}") String apiKey,
+                                @Value("${iamport.api-secret}") String apiSecret,
+                                @Value("${iamport.token.refresh-ahead-seconds:300}") long refreshAheadSeconds) {
+        this.restTemplate = restTemplate;
+        this.apiExecutor = apiExecutor;
+        this.tokenUrl = baseUrl + "/users/getToken";
+        this.credentials = Map.of("imp_key", apiKey, "imp_secret", apiSecret);
+        this.refreshAheadMillis = TimeUnit.SECONDS.toMillis(refreshAheadSeconds);
+    }
+
+    /**
+     * 유효한 액세스 토큰 (없거나 만료되었으면 발급 완료까지 대기)
+     */
+    public String getAccessToken() {
+        CachedToken token = cached;
+        if (token != null && token.isValid(System.currentTimeMillis())) {
+            return token.value();
+        }
+        return refresh(false).value();
+    }
+
+    /**
+     * 거절된 토큰 폐기 (이미 새 토큰으로 바뀌었으면 무시)
+     */
+    public void invalidate(String token) {
+        CachedToken current = cached;
+        if (current != null && current.value().equals(token)) {
+            cached = null;
+        }
+    }
+
+    /**
+     * 토큰 재발급 (진행 중인 발급이 있으면 그 결과를 함께 기다린다)
+     * force 가 아니면 발급 권한을 얻은 뒤 캐시를 다시 확인해, 직전 발급이 끝난 직후 도착한 호출이 또 발급하지 않게 한다.
+     */
+    private CachedToken refresh(boolean force) {
+        while (true) {
+            CompletableFuture<CachedToken> existing = inFlight.get();
+            if (existing != null) {
+                return await(existing);
+            }
+            CompletableFuture<CachedToken> created = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, created)) {
+                continue;
+            }
+            try {
+                CachedToken current = cached;
+                if (!force && current != null && current.isValid(System.currentTimeMillis())) {
+                    created.complete(current);
+                    return current;
+                }
+                CachedToken token = fetch();
+                // 대기 중인 호출보다 먼저 캐시를 채워 뒤늦게 온 호출이 다시 발급하지 않게 한다
+                cached = token;
+                created.complete(token);
+                long remaining = token.expiresAtMillis() - System.currentTimeMillis();
+                // 유효시간이 refresh-ahead 보다 짧으면 절반이 지났을 때 재발급
+                scheduleRefresh(remaining > refreshAheadMillis ? remaining - refreshAheadMillis : remaining / 2);
+                return token;
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.compareAndSet(created, null);
+            }
+        }
+    }
+
+    private CachedToken fetch() {
+        long requestedAt = System.currentTimeMillis();
+        ResponseEntity<Map> response = apiExecutor.execute(IamportApiExecutor.ENDPOINT_GET_TOKEN,
+                () -> restTemplate.postForEntity(tokenUrl, credentials, Map.class));
+        Map body = response.getBody();
+        Map result = body != null ? (Map) body.get("response") : null;
+        if (result == null || result.get("access_token") == null) {
+            throw new IllegalStateException("Iamport 토큰 발급 실패: " + (body != null ? body.get("message") : "빈 응답"));
+        }
+        long ttlMillis = TimeUnit.SECONDS.toMillis(
+                ((Number) result.get("expired_at")).longValue() - ((Number) result.get("now")).longValue());
+        log.info("Iamport 토큰 발급: {}초 유효", ttlMillis / 1000);
+        return new CachedToken((String) result.get("access_token"), requestedAt + ttlMillis);
+    }
+
+    private synchronized void scheduleRefresh(long delayMillis) {
+        // 예약은 항상 하나만 유지 (수동 재발급 후 이전 예약 취소)
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        try {
+            scheduledRefresh = scheduler.schedule(this::backgroundRefresh, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.debug("Iamport 토큰 재발급 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    private void backgroundRefresh() {
+        try {
+            refresh(true);
+        } catch (RuntimeException e) {
+            // 기존 토큰이 아직 유효하면 잠시 후 다시 시도하고, 만료되면 다음 호출이 직접 발급한다
+            CachedToken token = cached;
+            log.warn("Iamport 토큰 사전 재발급 실패: {}", e.getMessage());
+            if (token != null && token.isValid(System.currentTimeMillis() + RETRY_DELAY_MILLIS)) {
+                scheduleRefresh(RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private static CachedToken await(CompletableFuture<CachedToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private record CachedToken(String value, long expiresAtMillis) {
+        boolean isValid(long now) {
+            return now < expiresAtMillis - EXPIRY_MARGIN_MILLIS;
+        }
+    }
+}
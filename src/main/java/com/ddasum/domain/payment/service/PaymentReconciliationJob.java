@@ -0,0 +1,421 @@
+package com.ddasum.domain.payment.service;
+
+import com.ddasum.core.logging.LogUtil;
+import com.ddasum.domain.payment.dto.PaymentReconciliationResponse;
+import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.entity.PaymentStatus;
+import com.ddasum.domain.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TBL_PAYMENT 와 Iamport 결제 내역 대사
+ * 최근 lookback-days 일 결제를 id 키셋 청크로 읽고, 동시 호출 수를 max-in-flight 로 제한해 Iamport 와 비교한다.
+ * 불일치/오류 건은 CSV 보고서(report-dir)에 한 줄씩 기록하고, 처리량/결과는 지표로 남긴다.
+ * 검증이 끝나지 않은 PENDING 결제는 Iamport 상태와 관계없이 검증 작업에 다시 넘겨 PAID/FAILED 로 확정한다.
+ * 취소 결과가 확정되지 않은 CANCELLING 결제는 보고서에 남기고, 확정은 검증 작업의 취소 점검에 맡긴다.
+ * 정기 실행과 관리자 수동 실행 모두 Redis 잠금(SET NX)을 잡은 인스턴스 하나에서만 돈다.
+ */
+@Slf4j
+@Component
+public class PaymentReconciliationJob {
+
+    private static final Set<PaymentStatus> TARGET_STATUSES =
+            EnumSet.of(PaymentStatus.PENDING, PaymentStatus.PAID, PaymentStatus.CANCELLING, PaymentStatus.CANCELLED);
+    private static final String REPORT_HEADER =
+            "paymentId,merchantUid,impUid,type,dbStatus,dbAmount,gatewayStatus,gatewayAmount,message";
+    private static final DateTimeFormatter REPORT_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String LOCK_KEY = "lock:payment-reconciliation";
+    // 자신이 잡은 잠금만 푼다 (TTL 만료 후 다른 인스턴스가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final PaymentRepository paymentRepository;
+    private final IamportService iamportService;
+    private final PaymentVerificationWorker paymentVerificationWorker;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration lockTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final int lookbackDays;
+    private final Path reportDir;
+    private final ExecutorService callExecutor;
+    // 관리자 수동 실행용
+    private final ExecutorService triggerExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "payment-reconciliation");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile Run lastRun;
+
+    @Autowired
+    public PaymentReconciliationJob(PaymentRepository paymentRepository,
+                                    IamportService iamportService,
+                                    PaymentVerificationWorker paymentVerificationWorker,
+                                    MeterRegistry meterRegistry,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    @Value("${payment.reconciliation.lock-ttl-minutes:30}") long lockTtlMinutes,
+                                    @Value("${payment.reconciliation.chunk-size:500}") int chunkSize,
+                                    @Value("${payment.reconciliation.max-in-flight:8}") int maxInFlight,
+                                    @Value("${payment.reconciliation.lookback-days:30}") int lookbackDays,
+                                    @Value("${payment.reconciliation.report-dir:./reconciliation-reports}") String reportDir) {
+        this.paymentRepository = paymentRepository;
+        this.iamportService = iamportService;
+        this.paymentVerificationWorker = paymentVerificationWorker;
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.lookbackDays = lookbackDays;
+        this.reportDir = Paths.get(reportDir);
+        AtomicInteger sequence = new AtomicInteger();
+        this.callExecutor = Executors.newFixedThreadPool(maxInFlight, r -> {
+            Thread thread = new Thread(r, "payment-reconciliation-call-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 0 4 * * *}")
+    public void scheduledRun() {
+        // 정기 실행 잠금은 끝나도 풀지 않고 TTL 로 만료시켜, 시계가 조금 어긋난 인스턴스가 같은 회차를 다시 돌리지 않게 한다
+        if (!acquireLock()) {
+            log.info("다른 인스턴스가 결제 대사를 실행 중이거나 잠금을 확인할 수 없어 이번 실행은 건너뜁니다.");
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 결제 대사가 아직 진행 중이라 이번 실행은 건너뜁니다.");
+            return;
+        }
+        execute(newRun(), false);
+    }
+
+    // 같은 시점에 여러 인스턴스가 대사를 돌지 않도록 잠근다 (Redis 오류 시에도 실행하지 않는다)
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, lockTtl));
+        } catch (RuntimeException e) {
+            log.error("결제 대사 잠금 획득 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), nodeId);
+        } catch (RuntimeException e) {
+            log.warn("결제 대사 잠금 해제 실패, TTL 만료 후 풀림: {}", e.getMessage());
+        }
+    }
+
+    // 수동 실행 시작 (이 인스턴스에서 진행 중이거나 다른 인스턴스가 잠금을 잡고 있으면 거절)
+    private void startManualRun() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 결제 대사가 진행 중입니다.");
+        }
+        if (!acquireLock()) {
+            running.set(false);
+            throw new IllegalStateException("다른 인스턴스에서 결제 대사가 진행 중입니다.");
+        }
+    }
+
+    /**
+     * 관리자 수동 실행 (백그라운드로 시작하고 현재 상태를 바로 반환)
+     */
+    public PaymentReconciliationResponse trigger() {
+        startManualRun();
+        Run run = newRun();
+        try {
+            triggerExecutor.execute(() -> execute(run, true));
+        } catch (RuntimeException e) {
+            releaseLock();
+            running.set(false);
+            throw e;
+        }
+        return run.toResponse();
+    }
+
+    /**
+     * 마지막(또는 진행 중인) 실행 결과
+     */
+    public PaymentReconciliationResponse getLastResult() {
+        Run run = lastRun;
+        return run != null ? run.toResponse() : PaymentReconciliationResponse.builder().status("NONE").build();
+    }
+
+    /**
+     * 대사 실행 (동시 실행은 한 번만, 호출 스레드에서 끝날 때까지 진행)
+     */
+    public PaymentReconciliationResponse run() {
+        startManualRun();
+        return execute(newRun(), true);
+    }
+
+    private Run newRun() {
+        Run run = new Run();
+        lastRun = run;
+        return run;
+    }
+
+    // running 플래그와 잠금을 잡은 쪽에서만 호출하고, 끝나면 플래그를 푼다 (수동 실행은 잠금도 푼다)
+    private PaymentReconciliationResponse execute(Run run, boolean releaseLock) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Files.createDirectories(reportDir);
+            Path reportFile = reportDir.resolve("reconciliation-" + run.startedAt.format(REPORT_NAME_FORMAT) + ".csv");
+            run.reportFile = reportFile.toString();
+            try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                writer.write(REPORT_HEADER);
+                writer.newLine();
+                reconcile(run, writer);
+            }
+            run.finish("COMPLETED", null);
+        } catch (Exception e) {
+            log.error("결제 대사 실패: {}", e.getMessage());
+            run.finish("FAILED", e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("payment.reconciliation.run", "status", run.status));
+            if (releaseLock) {
+                releaseLock();
+            }
+            running.set(false);
+        }
+        PaymentReconciliationResponse result = run.toResponse();
+        LogUtil.logBusiness("결제 대사 종료: {} (확인 {}건, 불일치 {}건, 오류 {}건, {}건/s) -> {}",
+                result.getStatus(), result.getCheckedCount(), result.getMismatchCount(), result.getErrorCount(),
+                String.format("%.1f", result.getPaymentsPerSecond()), result.getReportFile());
+        return result;
+    }
+
+    private void reconcile(Run run, BufferedWriter writer) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        LocalDateTime since = LocalDateTime.now().minusDays(lookbackDays);
+        long afterId = 0;
+        while (true) {
+            List<Payment> chunk = paymentRepository.findReconciliationChunk(
+                    afterId, TARGET_STATUSES, since, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<CompletableFuture<Void>> calls = new ArrayList<>(chunk.size());
+            for (Payment payment : chunk) {
+                // 진행 중인 호출이 max-in-flight 개면 하나가 끝날 때까지 대기
+                inFlight.acquire();
+                calls.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        check(run, writer, payment);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, callExecutor));
+            }
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+            afterId = chunk.get(chunk.size() - 1).getId();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+    }
+
+    private void check(Run run, BufferedWriter writer, Payment payment) {
+        run.checked.incrementAndGet();
+        Map info;
+        try {
+            info = iamportService.verifyPayment(payment.getImpUid());
+        } catch (HttpClientErrorException.NotFound e) {
+            resubmitIfPending(payment);
+            mismatch(run, writer, payment, "NOT_FOUND", null, null, "Iamport 에 결제 내역이 없습니다.");
+            return;
+        } catch (RuntimeException e) {
+            run.errors.incrementAndGet();
+            count("error");
+            report(writer, payment, "ERROR", null, null, e.getMessage());
+            return;
+        }
+        if (info == null) {
+            resubmitIfPending(payment);
+            mismatch(run, writer, payment, "NOT_FOUND", null, null, "Iamport 에 결제 내역이 없습니다.");
+            return;
+        }
+        Object gatewayStatus = info.get("status");
+        Object gatewayAmount = info.get("amount");
+        if (!(gatewayAmount instanceof Number amount) || amount.intValue() != payment.getAmount()) {
+            resubmitIfPending(payment);
+            mismatch(run, writer, payment, "AMOUNT", gatewayStatus, gatewayAmount, "결제 금액이 일치하지 않습니다.");
+            return;
+        }
+        String expected = switch (payment.getStatus()) {
+            case PAID -> "paid";
+            case CANCELLED -> "cancelled";
+            default -> null;
+        };
+        if (payment.getStatus() == PaymentStatus.PENDING) {
+            // 검증이 끝나지 않은 결제: 결제 완료면 PAID, 실패/취소/미결제면 FAILED 로 검증 작업이 확정한다
+            paymentVerificationWorker.submit(payment.getId());
+            if ("paid".equals(gatewayStatus)) {
+                mismatch(run, writer, payment, "STALE_PENDING", gatewayStatus, gatewayAmount, "검증 대기 중인 결제를 다시 검증합니다.");
+            } else {
+                mismatch(run, writer, payment, "UNPAID_PENDING", gatewayStatus, gatewayAmount, "결제가 완료되지 않은 대기 결제를 실패 처리합니다.");
+            }
+            return;
+        }
+        if (payment.getStatus() == PaymentStatus.CANCELLING) {
+            // 취소 결과를 기록하지 못한 결제: 검증 작업의 취소 점검이 Iamport 상태로 CANCELLED/PAID 를 확정한다
+            mismatch(run, writer, payment, "CANCELLING", gatewayStatus, gatewayAmount, "취소 결과가 확정되지 않은 결제입니다.");
+            return;
+        }
+        if (!expected.equals(gatewayStatus)) {
+            mismatch(run, writer, payment, "STATUS", gatewayStatus, gatewayAmount, "결제 상태가 일치하지 않습니다.");
+            return;
+        }
+        run.matched.incrementAndGet();
+        count("match");
+    }
+
+    // PENDING 결제는 검증 작업이 Iamport 를 다시 조회해 PAID/FAILED 로 확정한다 (이미 검증 중이면 무시된다)
+    private void resubmitIfPending(Payment payment) {
+        if (payment.getStatus() == PaymentStatus.PENDING) {
+            paymentVerificationWorker.submit(payment.getId());
+        }
+    }
+
+    private void mismatch(Run run, BufferedWriter writer, Payment payment, String type,
+                          Object gatewayStatus, Object gatewayAmount, String message) {
+        run.mismatches.incrementAndGet();
+        count("mismatch");
+        report(writer, payment, type, gatewayStatus, gatewayAmount, message);
+    }
+
+    private void count(String result) {
+        Counter.builder("payment.reconciliation.checked")
+                .description("결제 대사 확인 건수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static void report(BufferedWriter writer, Payment payment, String type,
+                               Object gatewayStatus, Object gatewayAmount, String message) {
+        String line = String.join(",",
+                String.valueOf(payment.getId()),
+                csv(payment.getMerchantUid()),
+                csv(payment.getImpUid()),
+                type,
+                String.valueOf(payment.getStatus()),
+                String.valueOf(payment.getAmount()),
+                csv(gatewayStatus),
+                csv(gatewayAmount),
+                csv(message));
+        // 여러 호출 스레드가 같은 파일에 쓰므로 한 줄 단위로 잠근다
+        synchronized (writer) {
+            try {
+                writer.write(line);
+                writer.newLine();
+            } catch (IOException e) {
+                log.error("결제 대사 보고서 기록 실패: {} - {}", payment.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        triggerExecutor.shutdownNow();
+        callExecutor.shutdownNow();
+    }
+
+    /**
+     * 실행 1회 상태 (호출 스레드들이 갱신하고 조회 요청이 읽는다)
+     */
+    private static class Run {
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong checked = new AtomicLong();
+        private final AtomicLong matched = new AtomicLong();
+        private final AtomicLong mismatches = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private volatile String status = "RUNNING";
+        private volatile String message;
+        private volatile String reportFile;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        void finish(String status, String message) {
+            this.finishedNanos = System.nanoTime();
+            this.finishedAt = LocalDateTime.now();
+            this.message = message;
+            this.status = status;
+        }
+
+        PaymentReconciliationResponse toResponse() {
+            long endNanos = finishedAt != null ? finishedNanos : System.nanoTime();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(endNanos - startedNanos);
+            long checkedCount = checked.get();
+            return PaymentReconciliationResponse.builder()
+                    .status(status)
+                    .checkedCount(checkedCount)
+                    .matchedCount(matched.get())
+                    .mismatchCount(mismatches.get())
+                    .errorCount(errors.get())
+                    .paymentsPerSecond(elapsedMillis > 0 ? checkedCount * 1000.0 / elapsedMillis : 0)
+                    .reportFile(reportFile)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .elapsedMillis(elapsedMillis)
+                    .message(message)
+                    .build();
+        }
+    }
+}
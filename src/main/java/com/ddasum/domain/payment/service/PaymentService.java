@@ -1,14 +1,20 @@
 package com.ddasum.domain.payment.service;
 
 import com.ddasum.domain.payment.dto.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PaymentService {
     PaymentResponse create(PaymentRequest request);
+    PaymentResponse getStatus(String merchantUid);
     void cancel(String impUid, String reason);
     PaymentResponse getById(Long id);
     List<PaymentResponse> getByReservationId(Long reservationId);
     PaymentResponse getByImpUid(String impUid);
     PaymentResponse getByMerchantUid(String merchantUid);
     List<PaymentResponse> getAll();
+    Page<PaymentResponse> getAll(Pageable pageable);
+    void exportAll(Consumer<PaymentResponse> consumer);
 } 
\ No newline at end of file
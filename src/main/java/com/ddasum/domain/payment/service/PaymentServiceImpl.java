@@ -1,44 +1,62 @@
 package com.ddasum.domain.payment.service;
 
 import com.ddasum.domain.payment.dto.*;
+import com.ddasum.core.logging.LogUtil;
 import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.entity.PaymentStatus;
+import com.ddasum.domain.payment.mapper.PaymentMapper;
 import com.ddasum.domain.payment.repository.PaymentRepository;
 import com.ddasum.domain.reservation.entity.Reservation;
 import com.ddasum.domain.reservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 결제 접수 후 비동기 검증
+ * create 는 merchantUid 를 멱등 키로 PENDING 결제만 저장하고 바로 반환하며,
+ * Iamport 검증과 확정은 PaymentVerificationWorker 가 트랜잭션 밖에서 진행한다.
+ * 클라이언트는 getStatus(merchantUid) 로 결과를 확인한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
+    private static final String DUPLICATE_IMP_UID_MESSAGE = "이미 다른 결제 정보로 접수된 결제 고유번호(impUid)입니다.";
+
     private final PaymentRepository paymentRepository;
     private final ReservationRepository reservationRepository;
-    private final ModelMapper modelMapper;
     private final IamportService iamportService;
-
-    @PostConstruct
-    public void configureModelMapper() {
-        modelMapper.typeMap(Payment.class, PaymentResponse.class)
-            .addMappings(mapper -> {
-                mapper.map(src -> src.getReservation().getId(), PaymentResponse::setReservationId);
-            });
-    }
+    private final PaymentVerificationWorker paymentVerificationWorker;
 
     @Override
-    @Transactional
+    @CacheEvict(cacheNames = "paymentList", allEntries = true)
     public PaymentResponse create(PaymentRequest request) {
-        // 아임포트 결제 검증
-        Map paymentInfo = iamportService.verifyPayment(request.getImpUid());
-        int paidAmount = (int) paymentInfo.get("amount");
-        if (paidAmount != request.getAmount()) {
-            throw new IllegalArgumentException("결제 금액이 일치하지 않습니다.");
+        if (request.getMerchantUid() == null || request.getMerchantUid().isBlank()) {
+            throw new IllegalArgumentException("merchantUid 는 필수입니다.");
+        }
+        if (request.getImpUid() == null || request.getImpUid().isBlank()) {
+            throw new IllegalArgumentException("impUid 는 필수입니다.");
+        }
+        // 같은 주문번호로 다시 요청하면 새로 저장하지 않고 기존 결제를 돌려준다
+        Payment existing = paymentRepository.findByMerchantUid(request.getMerchantUid());
+        if (existing != null) {
+            return toIdempotentResponse(existing, request);
+        }
+        // impUid 도 유니크 (uk_payment_imp_uid) - 다른 주문번호로 같은 결제를 다시 접수하는 경우
+        if (paymentRepository.findByImpUid(request.getImpUid()) != null) {
+            throw new IllegalArgumentException(DUPLICATE_IMP_UID_MESSAGE);
         }
         Reservation reservation = reservationRepository.findById(request.getReservationId())
                 .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
@@ -46,22 +64,70 @@ public class PaymentServiceImpl implements PaymentService {
                 .reservation(reservation)
                 .paymentMethod(request.getPaymentMethod())
                 .amount(request.getAmount())
-                .paymentDate(LocalDateTime.now())
+                .impUid(request.getImpUid())
+                .merchantUid(request.getMerchantUid())
+                .status(PaymentStatus.PENDING)
+                .requestedAt(LocalDateTime.now())
                 .build();
-        Payment saved = paymentRepository.save(entity);
+        Payment saved;
+        try {
+            // save 자체 트랜잭션으로 INSERT 만 하고 바로 커밋
+            saved = paymentRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 주문번호 요청이 먼저 저장한 경우
+            Payment concurrent = paymentRepository.findByMerchantUid(request.getMerchantUid());
+            if (concurrent != null) {
+                return toIdempotentResponse(concurrent, request);
+            }
+            // 같은 impUid 를 다른 주문번호로 동시에 접수한 경우
+            if (paymentRepository.findByImpUid(request.getImpUid()) != null) {
+                throw new IllegalArgumentException(DUPLICATE_IMP_UID_MESSAGE);
+            }
+            throw e;
+        }
+        paymentVerificationWorker.submit(saved.getId());
+        LogUtil.logBusiness("결제 접수: {} ({})", saved.getId(), saved.getMerchantUid());
         return toResponse(saved);
     }
 
     @Override
-    @Transactional
+    public PaymentResponse getStatus(String merchantUid) {
+        PaymentResponse response = paymentRepository.findResponseByMerchantUid(merchantUid);
+        if (response == null) throw new IllegalArgumentException("결제를 찾을 수 없습니다.");
+        return response;
+    }
+
+    /**
+     * 결제 취소 (Iamport 호출 동안 트랜잭션을 잡지 않도록 CANCELLING 상태로 선점 후 호출)
+     * Iamport 가 거절(4xx)했거나 호출하지 못했으면 PAID 로 되돌리고, 시간 초과 등으로 결과를 모르면 CANCELLING 으로 두어
+     * PaymentVerificationWorker.sweepStaleCancelling 이 Iamport 상태를 보고 확정하게 한다.
+     */
+    @Override
     public void cancel(String impUid, String reason) {
         Payment payment = paymentRepository.findByImpUid(impUid);
         if (payment == null) throw new IllegalArgumentException("결제를 찾을 수 없습니다.");
-        iamportService.cancelPayment(impUid, payment.getAmount(), reason);
-        // 필요시 payment 상태 업데이트 등 추가 구현
+        if (paymentRepository.markCancelling(payment.getId(), LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("취소할 수 없는 결제 상태입니다.");
+        }
+        try {
+            iamportService.cancelPayment(impUid, payment.getAmount(), reason);
+        } catch (HttpClientErrorException | IllegalStateException e) {
+            // Iamport 가 거절했거나 (4xx) 호출 전에 차단된 경우 (서킷 열림/동시 호출 초과) - 취소되지 않았다
+            paymentRepository.updateStatus(payment.getId(), PaymentStatus.CANCELLING, PaymentStatus.PAID, null);
+            paymentVerificationWorker.evictCaches(payment.getId());
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("결제 취소 결과 확인 불가, 취소 점검에서 확정: {} - {}", payment.getId(), e.getMessage());
+            paymentVerificationWorker.evictCaches(payment.getId());
+            throw e;
+        }
+        paymentRepository.updateStatus(payment.getId(), PaymentStatus.CANCELLING, PaymentStatus.CANCELLED, reason);
+        paymentVerificationWorker.evictCaches(payment.getId());
+        LogUtil.logBusiness("결제 취소: {} ({})", payment.getId(), impUid);
     }
 
     @Override
+    @Cacheable(cacheNames = "payment", key = "#id")
     public PaymentResponse getById(Long id) {
         Payment entity = paymentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다."));
@@ -69,10 +135,9 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
+    @Cacheable(cacheNames = "paymentList", key = "'reservation:' + #reservationId")
     public List<PaymentResponse> getByReservationId(Long reservationId) {
-        return paymentRepository.findByReservation_Id(reservationId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return paymentRepository.findResponsesByReservationId(reservationId);
     }
 
     @Override
@@ -90,13 +155,32 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
+    @Cacheable(cacheNames = "paymentList", key = "'all'")
     public List<PaymentResponse> getAll() {
-        return paymentRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return paymentRepository.findAllResponses();
+    }
+
+    @Override
+    public Page<PaymentResponse> getAll(Pageable pageable) {
+        return paymentRepository.findResponsePage(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<PaymentResponse> consumer) {
+        try (Stream<PaymentResponse> rows = paymentRepository.streamAllResponses()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    private PaymentResponse toIdempotentResponse(Payment existing, PaymentRequest request) {
+        if (!request.getImpUid().equals(existing.getImpUid()) || request.getAmount() != existing.getAmount()) {
+            throw new IllegalArgumentException("이미 다른 결제 정보로 접수된 주문번호입니다.");
+        }
+        return toResponse(existing);
     }
 
     private PaymentResponse toResponse(Payment entity) {
-        return modelMapper.map(entity, PaymentResponse.class);
+        return PaymentMapper.toResponse(entity);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,264 @@
+package com.ddasum.domain.payment.service;
+
+import com.ddasum.core.logging.LogUtil;
+import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.entity.PaymentStatus;
+import com.ddasum.domain.payment.repository.PaymentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 접수된(PENDING) 결제를 요청 스레드 밖에서 Iamport 로 검증한다.
+ * 외부 호출 동안에는 트랜잭션/DB 연결을 잡지 않고, 결과는 상태 조건부 UPDATE 한 건으로 확정한다.
+ * Iamport 장애로 검증하지 못하면 점점 간격을 늘려 재시도한다.
+ * 검증 대기열은 메모리에만 있으므로, 재시작으로 사라졌거나 재시도를 모두 쓴 PENDING 결제는
+ * 주기 점검(sweepStalePending, 시작 직후 포함)이 DB 에서 다시 찾아 넣는다.
+ * 취소 호출 결과를 모른 채(시간 초과, 인스턴스 종료) CANCELLING 에 남은 결제도
+ * 같은 주기로 Iamport 상태를 확인해 CANCELLED/PAID 로 확정한다(sweepStaleCancelling).
+ */
+@Slf4j
+@Component
+public class PaymentVerificationWorker {
+
+    private static final long[] RETRY_DELAYS_SECONDS = {2, 10, 30};
+    private static final int SWEEP_CHUNK_SIZE = 200;
+    private static final int MAX_SWEEP_SUBMISSIONS = 1000;
+
+    private final PaymentRepository paymentRepository;
+    private final IamportService iamportService;
+    private final CacheManager cacheManager;
+    private final ScheduledExecutorService executor;
+    private final long staleAfterSeconds;
+    // 이 인스턴스에서 검증 중(재시도 대기 포함)인 결제
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public PaymentVerificationWorker(PaymentRepository paymentRepository,
+                                     IamportService iamportService,
+                                     CacheManager cacheManager,
+                                     @Value("${payment.verification.threads:4}") int threads,
+                                     @Value("${payment.verification.stale-after-seconds:60}") long staleAfterSeconds) {
+        this.paymentRepository = paymentRepository;
+        this.iamportService = iamportService;
+        this.cacheManager = cacheManager;
+        this.staleAfterSeconds = staleAfterSeconds;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "payment-verify-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 검증 예약 (접수 트랜잭션이 커밋된 뒤 호출)
+     */
+    public void submit(Long paymentId) {
+        if (inFlight.add(paymentId)) {
+            try {
+                schedule(paymentId, 0, 0);
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(paymentId); // 종료 중
+            }
+        }
+    }
+
+    /**
+     * 접수 후 stale-after-seconds 가 지나도 PENDING 인 결제를 다시 검증 (시작 직후 한 번, 이후 주기적으로)
+     * 여러 인스턴스가 같은 건을 넣어도 확정은 상태 조건부 UPDATE 라 한 번만 반영된다.
+     */
+    @Scheduled(initialDelayString = "${payment.verification.sweep-initial-delay-ms:10000}",
+            fixedDelayString = "${payment.verification.sweep-interval-ms:60000}")
+    public void sweepStalePending() {
+        LocalDateTime requestedBefore = LocalDateTime.now().minusSeconds(staleAfterSeconds);
+        long afterId = 0;
+        int submitted = 0;
+        try {
+            List<Long> ids;
+            do {
+                ids = paymentRepository.findStalePendingIds(afterId, requestedBefore, PageRequest.of(0, SWEEP_CHUNK_SIZE));
+                for (Long id : ids) {
+                    if (!inFlight.contains(id)) {
+                        submit(id);
+                        submitted++;
+                    }
+                }
+                if (!ids.isEmpty()) {
+                    afterId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == SWEEP_CHUNK_SIZE && submitted < MAX_SWEEP_SUBMISSIONS);
+        } catch (RuntimeException e) {
+            log.error("대기 결제 점검 실패: {}", e.getMessage());
+        }
+        if (submitted > 0) {
+            LogUtil.logBusiness("검증 대기 결제 재검증: {}건", submitted);
+        }
+    }
+
+    /**
+     * 취소 요청 후 stale-after-seconds 가 지나도 CANCELLING 인 결제를 Iamport 상태로 확정
+     * Iamport 에서 취소됐으면 CANCELLED, 아직 결제 완료 상태면 취소가 반영되지 않은 것이므로 PAID 로 되돌린다.
+     * 조회가 실패하거나 그 밖의 상태면 그대로 두고 다음 점검에서 다시 확인한다.
+     */
+    @Scheduled(initialDelayString = "${payment.verification.sweep-initial-delay-ms:10000}",
+            fixedDelayString = "${payment.verification.sweep-interval-ms:60000}")
+    public void sweepStaleCancelling() {
+        LocalDateTime requestedBefore = LocalDateTime.now().minusSeconds(staleAfterSeconds);
+        long afterId = 0;
+        int checked = 0;
+        int finalized = 0;
+        try {
+            List<Long> ids;
+            do {
+                ids = paymentRepository.findStaleCancellingIds(afterId, requestedBefore, PageRequest.of(0, SWEEP_CHUNK_SIZE));
+                for (Long id : ids) {
+                    if (finalizeCancelling(id)) {
+                        finalized++;
+                    }
+                    checked++;
+                }
+                if (!ids.isEmpty()) {
+                    afterId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == SWEEP_CHUNK_SIZE && checked < MAX_SWEEP_SUBMISSIONS);
+        } catch (RuntimeException e) {
+            log.error("취소 중 결제 점검 실패: {}", e.getMessage());
+        }
+        if (finalized > 0) {
+            LogUtil.logBusiness("취소 중 결제 확정: {}건", finalized);
+        }
+    }
+
+    private boolean finalizeCancelling(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId).orElse(null);
+        if (payment == null || payment.getStatus() != PaymentStatus.CANCELLING) {
+            return false;
+        }
+        Map info;
+        try {
+            info = iamportService.verifyPayment(payment.getImpUid());
+        } catch (RuntimeException e) {
+            log.warn("취소 중 결제 조회 실패, 다음 점검에서 재확인: {} - {}", paymentId, e.getMessage());
+            return false;
+        }
+        Object gatewayStatus = info != null ? info.get("status") : null;
+        PaymentStatus to;
+        if ("cancelled".equals(gatewayStatus)) {
+            to = PaymentStatus.CANCELLED;
+        } else if ("paid".equals(gatewayStatus)) {
+            to = PaymentStatus.PAID;
+        } else {
+            log.warn("취소 중 결제의 Iamport 상태를 확정할 수 없음: {} - {}", paymentId, gatewayStatus);
+            return false;
+        }
+        String reason = to == PaymentStatus.CANCELLED ? "Iamport 취소 확인" : null;
+        if (paymentRepository.updateStatus(paymentId, PaymentStatus.CANCELLING, to, reason) == 0) {
+            return false;
+        }
+        LogUtil.logBusiness("취소 중 결제 확정: {} -> {}", paymentId, to);
+        evictCaches(paymentId);
+        return true;
+    }
+
+    /**
+     * DB 결제와 Iamport 결제 정보 비교 (일치하면 null, 다르면 사유)
+     */
+    public static String findMismatch(Payment payment, Map info) {
+        if (info == null) {
+            return "Iamport 결제 정보가 없습니다.";
+        }
+        if (!"paid".equals(info.get("status"))) {
+            return "결제가 완료되지 않았습니다: " + info.get("status");
+        }
+        Object amount = info.get("amount");
+        if (!(amount instanceof Number number) || number.intValue() != payment.getAmount()) {
+            return "결제 금액이 일치하지 않습니다: " + amount;
+        }
+        Object merchantUid = info.get("merchant_uid");
+        if (merchantUid != null && !merchantUid.equals(payment.getMerchantUid())) {
+            return "주문번호가 일치하지 않습니다: " + merchantUid;
+        }
+        return null;
+    }
+
+    private void schedule(Long paymentId, int attempt, long delaySeconds) {
+        executor.schedule(() -> verify(paymentId, attempt), delaySeconds, TimeUnit.SECONDS);
+    }
+
+    private void verify(Long paymentId, int attempt) {
+        boolean retrying = false;
+        try {
+            Payment payment = paymentRepository.findById(paymentId).orElse(null);
+            if (payment == null || payment.getStatus() != PaymentStatus.PENDING) {
+                return;
+            }
+            Map info;
+            try {
+                info = iamportService.verifyPayment(payment.getImpUid());
+            } catch (HttpClientErrorException e) {
+                // 존재하지 않는 imp_uid 등 요청 자체의 문제는 재시도해도 같다
+                finish(paymentId, "Iamport 결제 조회 실패: " + e.getStatusCode());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt < RETRY_DELAYS_SECONDS.length) {
+                    log.warn("결제 검증 지연, {}초 후 재시도: {} - {}", RETRY_DELAYS_SECONDS[attempt], paymentId, e.getMessage());
+                    schedule(paymentId, attempt + 1, RETRY_DELAYS_SECONDS[attempt]);
+                    retrying = true;
+                } else {
+                    log.error("결제 검증 재시도 초과, 다음 대기 결제 점검에서 재확인: {} - {}", paymentId, e.getMessage());
+                }
+                return;
+            }
+            finish(paymentId, findMismatch(payment, info));
+        } catch (RuntimeException e) {
+            log.error("결제 검증 처리 실패: {} - {}", paymentId, e.getMessage());
+        } finally {
+            if (!retrying) {
+                inFlight.remove(paymentId);
+            }
+        }
+    }
+
+    private void finish(Long paymentId, String mismatch) {
+        int updated = mismatch == null
+                ? paymentRepository.markPaid(paymentId, LocalDateTime.now())
+                : paymentRepository.updateStatus(paymentId, PaymentStatus.PENDING, PaymentStatus.FAILED, mismatch);
+        if (updated > 0) {
+            LogUtil.logBusiness("결제 검증 완료: {} -> {}", paymentId, mismatch == null ? PaymentStatus.PAID : PaymentStatus.FAILED);
+            evictCaches(paymentId);
+        }
+    }
+
+    void evictCaches(Long paymentId) {
+        Cache paymentCache = cacheManager.getCache("payment");
+        if (paymentCache != null) {
+            paymentCache.evict(paymentId);
+        }
+        Cache paymentListCache = cacheManager.getCache("paymentList");
+        if (paymentListCache != null) {
+            paymentListCache.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ddasum.domain.region.controller;
+
+import com.ddasum.core.annotation.AdminOnly;
+import com.ddasum.core.annotation.LoginRequired;
+import com.ddasum.core.annotation.TraceLog;
+import com.ddasum.core.api.response.ApiResponse;
+import com.ddasum.domain.region.dto.RegionIngestionJobResponse;
+import com.ddasum.domain.region.service.RegionIngestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.io.InputStream;
+
+@LoginRequired
+@TraceLog
+@RestController
+@RequestMapping("/api/v1/regions")
+@RequiredArgsConstructor
+public class RegionController extends com.ddasum.core.controller.BaseController {
+    private final RegionIngestionService regionIngestionService;
+
+    // 관리자용 지역 데이터 적재 (CSV 헤더: name,population,transport,infra) - 작업 ID 를 바로 반환하고 비동기로 진행
+    // 요청 본문을 그대로 CSV 로 받는다 (예: curl -H "Content-Type: text/csv" --data-binary @regions.csv)
+    // 진행 중인 작업이 있으면 409, 파일 크기 초과 등은 GlobalExceptionHandler 가 응답한다
+    @AdminOnly
+    @PostMapping(value = "/ingest", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<RegionIngestionJobResponse>> ingest(InputStream body) {
+        try {
+            return success(regionIngestionService.start(body));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error(e.getMessage(), "REGION_INGEST_RUNNING"));
+        }
+    }
+
+    // 없는 작업 ID 는 ResourceNotFoundException -> 404
+    @AdminOnly
+    @GetMapping("/ingest/{jobId}")
+    public ResponseEntity<ApiResponse<RegionIngestionJobResponse>> getIngestJob(@PathVariable String jobId) {
+        return success(regionIngestionService.getJob(jobId));
+    }
+}
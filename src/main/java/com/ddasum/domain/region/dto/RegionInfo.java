@@ -0,0 +1,7 @@
+package com.ddasum.domain.region.dto;
+
+/**
+ * 지역 기본 정보 (RegionSnapshot 이 공유하는 불변 값)
+ */
+public record RegionInfo(String name, int population, String transport, String infra) {
+}
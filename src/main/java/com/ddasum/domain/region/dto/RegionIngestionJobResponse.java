@@ -0,0 +1,30 @@
+package com.ddasum.domain.region.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역 데이터 적재 작업 진행 상황
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegionIngestionJobResponse {
+    private String jobId;
+    private String status; // RUNNING, COMPLETED, FAILED
+    private long readCount; // 파싱한 데이터 행 수
+    private long writtenCount; // DB 에 반영한 행 수
+    private long skippedCount; // 형식 오류로 건너뛴 행 수
+    private long bytesRead;
+    private long totalBytes;
+    private double rowsPerSecond; // 반영 기준 처리량
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;
+    private String message;
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "TBL_REGION")
+@Table(name = "TBL_REGION", uniqueConstraints = {
+        // 적재 시 이름 기준 upsert (ON DUPLICATE KEY UPDATE)
+        @UniqueConstraint(name = "uk_region_name", columnNames = "name")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,8 +18,9 @@ public class Region {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(nullable = false, length = 100)
     private String name;
     private int population;
     private String transport;
     private String infra;
-} 
\ No newline at end of file
+} 
@@ -0,0 +1,106 @@
+package com.ddasum.domain.region.index;
+
+import com.ddasum.domain.region.dto.RegionInfo;
+import com.ddasum.domain.region.entity.Region;
+import com.ddasum.domain.region.repository.RegionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 지역 이름 -> 지역 정보 메모리 스냅샷
+ * 조회는 불변 맵 하나를 읽기만 하므로 잠금 없이 O(1) 이고,
+ * 갱신은 DB 에서 새 맵을 만든 뒤 참조를 한 번에 교체한다 (copy-on-write).
+ * 지역 데이터가 바뀌면 publishChange 로 다른 인스턴스에도 갱신을 알린다.
+ */
+@Slf4j
+@Component
+public class RegionSnapshot implements MessageListener {
+
+    private static final String CHANNEL = "region:snapshot";
+
+    private final RegionRepository regionRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    // 자신이 발행한 갱신 메시지를 구분하기 위한 인스턴스 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Map<String, RegionInfo> regions = Map.of();
+
+    public RegionSnapshot(RegionRepository regionRepository,
+                          RedisTemplate<String, String> redisTemplate,
+                          RedisMessageListenerContainer listenerContainer) {
+        this.regionRepository = regionRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        refresh();
+    }
+
+    /**
+     * 지역 이름으로 조회 (없으면 null)
+     */
+    public RegionInfo get(String name) {
+        if (name == null) {
+            return null;
+        }
+        return regions.get(name.trim());
+    }
+
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * DB 기준으로 스냅샷 재구성 (동시 갱신은 직렬화하고, 조회는 기존 맵을 계속 사용)
+     */
+    public synchronized void refresh() {
+        try {
+            Map<String, RegionInfo> loaded = new HashMap<>();
+            for (Region region : regionRepository.findAll()) {
+                if (region.getName() != null) {
+                    loaded.put(region.getName().trim(), new RegionInfo(
+                            region.getName(), region.getPopulation(), region.getTransport(), region.getInfra()));
+                }
+            }
+            regions = Map.copyOf(loaded);
+            log.info("지역 스냅샷 갱신 완료: {}건", loaded.size());
+        } catch (Exception e) {
+            // 갱신 실패 시 이전 스냅샷 유지
+            log.error("지역 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지역 데이터 변경 후 호출 (로컬 갱신 + 다른 인스턴스에 알림)
+     */
+    public void publishChange() {
+        refresh();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("지역 스냅샷 갱신 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            refresh();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.ddasum.domain.region.repository;
+
+import com.ddasum.domain.region.entity.Region;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
+
+public interface RegionRepository extends JpaRepository<Region, Long> {
+    Optional<Region> findByName(String name);
+}
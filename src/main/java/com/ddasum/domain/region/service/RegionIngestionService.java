@@ -0,0 +1,9 @@
+package com.ddasum.domain.region.service;
+
+import com.ddasum.domain.region.dto.RegionIngestionJobResponse;
+import java.io.InputStream;
+
+public interface RegionIngestionService {
+    RegionIngestionJobResponse start(InputStream csv);
+    RegionIngestionJobResponse getJob(String jobId);
+}
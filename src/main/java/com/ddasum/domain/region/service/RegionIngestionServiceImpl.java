@@ -0,0 +1,411 @@
+package com.ddasum.domain.region.service;
+
+import com.ddasum.core.error.enums.ErrorCode;
+import com.ddasum.core.exception.BusinessException;
+import com.ddasum.core.exception.ResourceNotFoundException;
+import com.ddasum.core.logging.LogUtil;
+import com.ddasum.core.util.CsvReader;
+import com.ddasum.domain.region.dto.RegionIngestionJobResponse;
+import com.ddasum.domain.region.index.RegionSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 지역 데이터 스트리밍 적재 (CSV 헤더: name,population,transport,infra)
+ * 파싱 스레드가 파일을 한 행씩 읽어 배치를 만들고, 쓰기 스레드가 배치 단위로 TBL_REGION 에 upsert 한다.
+ * 두 단계는 크기가 제한된 큐로 연결되어 쓰기가 밀리면 파싱이 대기하므로 메모리 사용량은 파일 크기와 무관하다.
+ * 이름 기준 upsert 라 같은 파일을 다시 적재해도 결과가 같다.
+ * 요청 본문은 multipart 로 메모리/임시 영역에 올리지 않고 스트림 그대로 작업용 임시 파일에 옮긴 뒤 비동기로 적재한다.
+ */
+@Slf4j
+@Service
+public class RegionIngestionServiceImpl implements RegionIngestionService {
+    static final int BATCH_SIZE = 1000;
+    static final int QUEUE_CAPACITY = 8; // 대기 배치 수 상한 (최대 8000행)
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_JOB_HISTORY = 20;
+    private static final List<String> CSV_HEADER = List.of("name", "population", "transport", "infra");
+    private static final String UPSERT_SQL = "INSERT INTO tbl_region (name, population, transport, infra) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE population = VALUES(population), transport = VALUES(transport), infra = VALUES(infra)";
+    // 파싱 종료 표시 (참조 비교)
+    private static final List<RegionRow> END_OF_STREAM = Collections.unmodifiableList(new ArrayList<>());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RegionSnapshot regionSnapshot;
+    private final CacheManager cacheManager;
+    private final long maxBytes;
+    // 파싱 1 + 쓰기 1 (작업은 한 번에 하나만 실행)
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicReference<IngestionJob> runningJob = new AtomicReference<>();
+    private final Map<String, IngestionJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, IngestionJob> eldest) {
+            return size() > MAX_JOB_HISTORY;
+        }
+    });
+
+    public RegionIngestionServiceImpl(JdbcTemplate jdbcTemplate, RegionSnapshot regionSnapshot, CacheManager cacheManager,
+                                      @Value("${region.ingest.max-bytes:209715200}") long maxBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.regionSnapshot = regionSnapshot;
+        this.cacheManager = cacheManager;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 적재 작업 시작 (본문을 작업용 임시 파일로 옮기고, 파일은 작업이 끝나면 삭제한다)
+     */
+    @Override
+    public RegionIngestionJobResponse start(InputStream csv) {
+        // 진행 중인 작업이 있으면 본문을 받기 전에 거절
+        IngestionJob running = runningJob.get();
+        if (running != null) {
+            throw new IllegalStateException("이미 진행 중인 지역 데이터 적재 작업이 있습니다: " + running.id);
+        }
+        Path csvFile;
+        try {
+            csvFile = Files.createTempFile("region-ingest-", ".csv");
+        } catch (IOException e) {
+            throw new UncheckedIOException("적재용 임시 파일을 만들 수 없습니다", e);
+        }
+        try {
+            spool(csv, csvFile);
+            return start(csvFile);
+        } catch (RuntimeException e) {
+            deleteQuietly(csvFile);
+            throw e;
+        }
+    }
+
+    private void spool(InputStream csv, Path csvFile) {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long copied = 0;
+        try (OutputStream out = Files.newOutputStream(csvFile)) {
+            int n;
+            while ((n = csv.read(buffer)) != -1) {
+                copied += n;
+                if (copied > maxBytes) {
+                    throw new BusinessException(ErrorCode.FILE_TOO_LARGE, "적재 파일은 " + maxBytes + " bytes 를 넘을 수 없습니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "적재 파일을 받을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private RegionIngestionJobResponse start(Path csvFile) {
+        long totalBytes;
+        try {
+            totalBytes = Files.size(csvFile);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "적재 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString(), totalBytes);
+        if (!runningJob.compareAndSet(null, job)) {
+            throw new IllegalStateException("이미 진행 중인 지역 데이터 적재 작업이 있습니다: " + runningJob.get().id);
+        }
+        jobs.put(job.id, job);
+        BlockingQueue<List<RegionRow>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        executor.execute(() -> produce(job, csvFile, queue));
+        executor.execute(() -> consume(job, queue));
+        LogUtil.logBusiness("지역 데이터 적재 시작: {} ({} bytes)", job.id, totalBytes);
+        return job.toResponse();
+    }
+
+    @Override
+    public RegionIngestionJobResponse getJob(String jobId) {
+        IngestionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("적재 작업을 찾을 수 없습니다.");
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 파싱 단계: 행을 배치로 묶어 큐에 넣는다 (큐가 가득 차면 대기)
+     */
+    private void produce(IngestionJob job, Path csvFile, BlockingQueue<List<RegionRow>> queue) {
+        try (InputStream in = new CountingInputStream(Files.newInputStream(csvFile), job.bytesRead);
+             CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRow();
+            if (header == null || !CSV_HEADER.equals(header.stream().map(String::trim).toList())) {
+                throw new IllegalArgumentException("CSV 헤더는 " + String.join(",", CSV_HEADER) + " 이어야 합니다.");
+            }
+            List<RegionRow> batch = new ArrayList<>(BATCH_SIZE);
+            List<String> fields;
+            while ((fields = reader.readRow()) != null && !job.isFailed()) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue; // 빈 줄
+                }
+                RegionRow row = parse(fields);
+                if (row == null) {
+                    job.skippedCount.incrementAndGet();
+                    continue;
+                }
+                job.readCount.incrementAndGet();
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    queue.put(batch);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                queue.put(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("적재 작업이 중단되었습니다.");
+        } catch (Exception e) {
+            log.error("지역 데이터 파싱 실패: {} - {}", job.id, e.getMessage());
+            job.fail("파일 읽기 실패: " + e.getMessage());
+        } finally {
+            // 쓰기 단계는 실패 후에도 큐를 비우므로 종료 표시는 항상 전달된다
+            try {
+                queue.put(END_OF_STREAM);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            deleteQuietly(csvFile);
+        }
+    }
+
+    private static void deleteQuietly(Path csvFile) {
+        try {
+            Files.deleteIfExists(csvFile);
+        } catch (IOException e) {
+            log.warn("적재 파일 삭제 실패: {} - {}", csvFile, e.getMessage());
+        }
+    }
+
+    /**
+     * 쓰기 단계: 배치 단위 upsert
+     */
+    private void consume(IngestionJob job, BlockingQueue<List<RegionRow>> queue) {
+        try {
+            while (true) {
+                List<RegionRow> batch = queue.take();
+                if (batch == END_OF_STREAM) {
+                    break;
+                }
+                if (job.isFailed()) {
+                    continue; // 파싱 단계가 막히지 않도록 남은 배치는 버린다
+                }
+                try {
+                    upsert(batch);
+                    job.writtenCount.addAndGet(batch.size());
+                } catch (RuntimeException e) {
+                    log.error("지역 데이터 저장 실패: {} - {}", job.id, e.getMessage());
+                    job.fail("저장 실패: " + e.getMessage());
+                }
+            }
+            job.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("적재 작업이 중단되었습니다.");
+        } finally {
+            runningJob.compareAndSet(job, null);
+            if (job.writtenCount.get() > 0) {
+                onRegionsChanged();
+            }
+            RegionIngestionJobResponse result = job.toResponse();
+            LogUtil.logBusiness("지역 데이터 적재 종료: {} {} (반영 {}건, 건너뜀 {}건, {} rows/s)",
+                    job.id, result.getStatus(), result.getWrittenCount(), result.getSkippedCount(), result.getRowsPerSecond());
+        }
+    }
+
+    /**
+     * 지역 스냅샷 갱신 후 지역 정보가 담긴 빈집 응답 캐시 비우기
+     */
+    private void onRegionsChanged() {
+        try {
+            regionSnapshot.publishChange();
+            for (String cacheName : List.of("house", "houseList")) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("지역 데이터 변경 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private void upsert(List<RegionRow> batch) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, row) -> {
+            ps.setString(1, row.name());
+            ps.setInt(2, row.population());
+            ps.setString(3, row.transport());
+            ps.setString(4, row.infra());
+        });
+    }
+
+    /**
+     * 행 변환 (형식 오류면 null)
+     */
+    private static RegionRow parse(List<String> fields) {
+        if (fields.size() != CSV_HEADER.size()) {
+            return null;
+        }
+        String name = fields.get(0).trim();
+        if (name.isEmpty() || name.length() > 100) {
+            return null;
+        }
+        int population;
+        try {
+            String value = fields.get(1).trim().replace(",", "");
+            population = value.isEmpty() ? 0 : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (population < 0) {
+            return null;
+        }
+        return new RegionRow(name, population, blankToNull(fields.get(2)), blankToNull(fields.get(3)));
+    }
+
+    private static String blankToNull(String value) {
+        return value.isBlank() ? null : value.trim();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record RegionRow(String name, int population, String transport, String infra) {
+    }
+
+    /**
+     * 작업 상태 (카운터는 두 스레드가 갱신하고 조회 요청이 읽는다)
+     */
+    private static class IngestionJob {
+        private final String id;
+        private final long totalBytes;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong readCount = new AtomicLong();
+        private final AtomicLong writtenCount = new AtomicLong();
+        private final AtomicLong skippedCount = new AtomicLong();
+        private final AtomicLong bytesRead = new AtomicLong();
+        private volatile String status = "RUNNING";
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        IngestionJob(String id, long totalBytes) {
+            this.id = id;
+            this.totalBytes = totalBytes;
+        }
+
+        synchronized void fail(String reason) {
+            if (!"FAILED".equals(status)) {
+                status = "FAILED";
+                message = reason;
+            }
+        }
+
+        synchronized void complete() {
+            if ("RUNNING".equals(status)) {
+                status = "COMPLETED";
+            }
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+        }
+
+        boolean isFailed() {
+            return "FAILED".equals(status);
+        }
+
+        RegionIngestionJobResponse toResponse() {
+            long endNanos = finishedAt != null ? finishedNanos : System.nanoTime();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(endNanos - startedNanos);
+            long written = writtenCount.get();
+            return RegionIngestionJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .readCount(readCount.get())
+                    .writtenCount(written)
+                    .skippedCount(skippedCount.get())
+                    .bytesRead(bytesRead.get())
+                    .totalBytes(totalBytes)
+                    .rowsPerSecond(elapsedMillis > 0 ? written * 1000.0 / elapsedMillis : 0)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .elapsedMillis(elapsedMillis)
+                    .message(message)
+                    .build();
+        }
+    }
+
+    /**
+     * 읽은 바이트 수 집계 (진행률 표시용)
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong counter;
+
+        CountingInputStream(InputStream in, AtomicLong counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                counter.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                counter.addAndGet(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            counter.addAndGet(skipped);
+            return skipped;
+        }
+    }
+}
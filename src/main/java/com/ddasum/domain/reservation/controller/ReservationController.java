@@ -5,9 +5,20 @@ import com.ddasum.core.annotation.LoginRequired;
 import com.ddasum.core.annotation.TraceLog;
 import com.ddasum.domain.reservation.dto.*;
 import com.ddasum.domain.reservation.service.ReservationService;
+import com.ddasum.core.annotation.AdminOnly;
+import com.ddasum.core.constants.CommonConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.time.YearMonth;
 import java.util.List;
 
 @LoginRequired
@@ -17,6 +28,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReservationController extends com.ddasum.core.controller.BaseController {
     private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ApiResponse<ReservationResponse>> create(@RequestBody ReservationCreateRequest request) {
@@ -44,6 +56,19 @@ public class ReservationController extends com.ddasum.core.controller.BaseContro
         return success(reservationService.getByReservationAll());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<Page<ReservationResponse>>> getPage(
+            @PageableDefault(size = CommonConstants.DEFAULT_PAGE_SIZE, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        return successPage(reservationService.getByReservationAll(pageable));
+    }
+
+    // 관리자용 전체 내보내기 (NDJSON 스트리밍, 한 줄에 한 건)
+    @AdminOnly
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjson(objectMapper, reservationService::exportAll);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<List<ReservationResponse>>> getByUserId(@PathVariable Long userId) {
         return success(reservationService.getByUserId(userId));
@@ -53,4 +78,20 @@ public class ReservationController extends com.ddasum.core.controller.BaseContro
     public ResponseEntity<ApiResponse<List<ReservationResponse>>> getByVacantHouseId(@PathVariable Long vacantHouseId) {
         return success(reservationService.getByVacantHouseId(vacantHouseId));
     }
+
+    @GetMapping("/calendar/{vacantHouseId}")
+    public ResponseEntity<ApiResponse<ReservationCalendarResponse>> getCalendar(
+            @PathVariable Long vacantHouseId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(defaultValue = "1") int months) {
+        return success(reservationService.getCalendar(vacantHouseId, month, months));
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<List<ReservationCalendarResponse>>> getCalendars(
+            @RequestParam List<Long> vacantHouseIds,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(defaultValue = "1") int months) {
+        return success(reservationService.getCalendars(vacantHouseIds, month, months));
+    }
 } 
\ No newline at end of file
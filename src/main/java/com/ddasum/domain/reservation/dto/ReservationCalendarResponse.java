@@ -0,0 +1,18 @@
+package com.ddasum.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationCalendarResponse {
+    private Long vacantHouseId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String calendar; // startDate부터 하루 한 글자: '1' 예약됨(또는 지난 날짜), '0' 예약 가능
+}
@@ -7,13 +7,19 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "TBL_RESERVATION")
+@Table(name = "TBL_RESERVATION", indexes = {
+        // 빈집별 예약 목록 (시작일 순)
+        @Index(name = "idx_reservation_house_start", columnList = "vacantHouse_id, startDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Reservation {
+    public static final String STATUS_IN_PROGRESS = "진행중";
+    public static final String STATUS_CANCELLED = "취소";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
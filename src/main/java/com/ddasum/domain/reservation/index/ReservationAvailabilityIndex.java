@@ -0,0 +1,128 @@
+package com.ddasum.domain.reservation.index;
+
+import com.ddasum.domain.reservation.entity.Reservation;
+import com.ddasum.domain.reservation.repository.ReservationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 빈집별 예약 기간 인덱스 (조회용)
+ * 한 빈집의 예약은 서로 겹치지 않으므로 시작일 기준 정렬 맵만으로 O(log n) 충돌 검사가 가능하다.
+ * 기간은 [startDate, endDate) 반열린 구간이다 (퇴실일 당일 입실 가능).
+ * 인스턴스마다 따로 두는 사본이라 예약 가능 목록/달력 같은 조회에만 쓰고,
+ * 예약 생성/수정의 최종 충돌 검사는 빈집 행을 잠근 트랜잭션에서 DB 로 한다.
+ * 변경은 ReservationIndexSynchronizer 가 커밋 후 빈집 단위로 DB 에서 다시 적재한다.
+ * 이미 끝난 예약은 적재하지 않고, 달력 재구성 때(매일) 끝난 구간을 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationAvailabilityIndex {
+
+    private final ReservationRepository reservationRepository;
+
+    // 빈집 ID -> (시작일 -> 예약 구간)
+    private final Map<Long, NavigableMap<LocalDate, Booking>> bookingsByHouse = new ConcurrentHashMap<>();
+
+    /**
+     * 서버 시작 시 취소되지 않고 아직 끝나지 않은 예약 적재
+     */
+    @PostConstruct
+    public void load() {
+        int count = 0;
+        for (Object[] row : reservationRepository.findActivePeriods(Reservation.STATUS_CANCELLED, LocalDate.now())) {
+            bookingsByHouse.computeIfAbsent((Long) row[1], key -> new ConcurrentSkipListMap<>())
+                    .put((LocalDate) row[2], new Booking((Long) row[0], (LocalDate) row[2], (LocalDate) row[3]));
+            count++;
+        }
+        log.info("예약 기간 인덱스 적재 완료: {}건", count);
+    }
+
+    /**
+     * 기간 충돌 여부 확인 (excludeReservationId 는 검사에서 제외, 수정 시 사용)
+     */
+    public boolean hasConflict(Long vacantHouseId, LocalDate startDate, LocalDate endDate, Long excludeReservationId) {
+        NavigableMap<LocalDate, Booking> bookings = bookingsByHouse.get(vacantHouseId);
+        if (bookings == null) {
+            return false;
+        }
+        // endDate 이전에 시작한 예약 중 가장 늦은 것부터 거꾸로 확인 (겹치지 않으므로 최대 두 건)
+        Map.Entry<LocalDate, Booking> entry = bookings.lowerEntry(endDate);
+        while (entry != null && entry.getValue().endDate().isAfter(startDate)) {
+            if (!entry.getValue().reservationId().equals(excludeReservationId)) {
+                return true;
+            }
+            entry = bookings.lowerEntry(entry.getKey());
+        }
+        return false;
+    }
+
+    /**
+     * 기간 내 예약 가능 여부
+     */
+    public boolean isAvailable(Long vacantHouseId, LocalDate startDate, LocalDate endDate) {
+        return !hasConflict(vacantHouseId, startDate, endDate, null);
+    }
+
+    /**
+     * 한 빈집의 예약 구간을 DB 기준으로 다시 적재 (ReservationIndexSynchronizer 가 빈집 단위로 직렬화해 호출)
+     */
+    public void reload(Long vacantHouseId) {
+        NavigableMap<LocalDate, Booking> bookings = new ConcurrentSkipListMap<>();
+        for (Object[] row : reservationRepository.findActivePeriodsByHouse(
+                vacantHouseId, Reservation.STATUS_CANCELLED, LocalDate.now())) {
+            LocalDate startDate = (LocalDate) row[1];
+            bookings.put(startDate, new Booking((Long) row[0], startDate, (LocalDate) row[2]));
+        }
+        if (bookings.isEmpty()) {
+            bookingsByHouse.remove(vacantHouseId);
+        } else {
+            bookingsByHouse.put(vacantHouseId, bookings);
+        }
+    }
+
+    /**
+     * 종료일이 date 이전(당일 포함)인 예약 구간 제거
+     */
+    public void removeEndedBefore(LocalDate date) {
+        bookingsByHouse.forEach((vacantHouseId, bookings) -> {
+            bookings.values().removeIf(booking -> !booking.endDate().isAfter(date));
+            bookingsByHouse.computeIfPresent(vacantHouseId, (key, current) -> current.isEmpty() ? null : current);
+        });
+    }
+
+    /**
+     * 등록된 전체 예약 구간 순회
+     */
+    public void forEachBooking(BookingVisitor visitor) {
+        bookingsByHouse.forEach((vacantHouseId, bookings) ->
+                bookings.values().forEach(booking ->
+                        visitor.visit(vacantHouseId, booking.startDate(), booking.endDate())));
+    }
+
+    /**
+     * 한 빈집의 예약 구간 순회 (시작일 순)
+     */
+    public void forEachBooking(Long vacantHouseId, BookingVisitor visitor) {
+        NavigableMap<LocalDate, Booking> bookings = bookingsByHouse.get(vacantHouseId);
+        if (bookings != null) {
+            bookings.values().forEach(booking -> visitor.visit(vacantHouseId, booking.startDate(), booking.endDate()));
+        }
+    }
+
+    @FunctionalInterface
+    public interface BookingVisitor {
+        void visit(Long vacantHouseId, LocalDate startDate, LocalDate endDate);
+    }
+
+    private record Booking(Long reservationId, LocalDate startDate, LocalDate endDate) {
+    }
+}
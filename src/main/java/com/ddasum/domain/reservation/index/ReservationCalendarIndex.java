@@ -0,0 +1,106 @@
+package com.ddasum.domain.reservation.index;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 빈집별 일 단위 예약 달력 비트맵 (하루 1비트)
+ * 비트 위치는 기준일로부터의 경과 일수이고, 기준일은 매일 오늘로 옮겨 지난 날짜 비트를 버린다.
+ * 예약은 오늘부터 HORIZON_DAYS 일 이내로만 받으므로 빈집 하나의 비트맵은 그 크기를 넘지 않는다.
+ * 비트맵은 만든 뒤 바꾸지 않고 통째로 교체하므로 조회는 잠금 없이 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCalendarIndex {
+
+    public static final char BOOKED = '1';
+    public static final char FREE = '0';
+    // 예약 가능 기간 (오늘부터 퇴실일까지 최대 일수)
+    public static final int HORIZON_DAYS = 365;
+
+    private final ReservationAvailabilityIndex availabilityIndex;
+
+    private volatile Calendars state = new Calendars(LocalDate.now().toEpochDay(), new ConcurrentHashMap<>());
+
+    /**
+     * 서버 시작 시 예약 기간 인덱스로부터 달력 구성 (DB 조회 없음)
+     */
+    @PostConstruct
+    public void load() {
+        rebase();
+    }
+
+    /**
+     * 기준일을 오늘로 옮겨 전체 달력 재구성 (매일 자정 직후)
+     * 종료된 예약은 기간 인덱스에서도 함께 정리한다.
+     */
+    @Scheduled(cron = "${reservation.calendar.rebase-cron:0 5 0 * * *}")
+    public synchronized void rebase() {
+        LocalDate today = LocalDate.now();
+        availabilityIndex.removeEndedBefore(today);
+        long baseEpochDay = today.toEpochDay();
+        Map<Long, BitSet> calendars = new ConcurrentHashMap<>();
+        availabilityIndex.forEachBooking((vacantHouseId, startDate, endDate) ->
+                mark(calendars.computeIfAbsent(vacantHouseId, key -> new BitSet()), baseEpochDay, startDate, endDate));
+        state = new Calendars(baseEpochDay, calendars);
+        log.info("예약 달력 비트맵 재구성 완료: 기준일 {}, 빈집 {}곳", today, calendars.size());
+    }
+
+    /**
+     * 한 빈집의 달력을 예약 기간 인덱스 기준으로 다시 구성 (ReservationIndexSynchronizer 가 기간 인덱스 재적재 후 호출)
+     */
+    public synchronized void reload(Long vacantHouseId) {
+        Calendars current = state;
+        BitSet bits = new BitSet();
+        availabilityIndex.forEachBooking(vacantHouseId, (id, startDate, endDate) ->
+                mark(bits, current.baseEpochDay(), startDate, endDate));
+        if (bits.isEmpty()) {
+            current.bits().remove(vacantHouseId);
+        } else {
+            current.bits().put(vacantHouseId, bits);
+        }
+    }
+
+    // [startDate, endDate) 구간을 예약됨으로 표시 (기준일 이전과 예약 가능 기간 밖은 기록하지 않음)
+    private static void mark(BitSet bits, long baseEpochDay, LocalDate startDate, LocalDate endDate) {
+        long limit = LocalDate.now().toEpochDay() + HORIZON_DAYS - baseEpochDay;
+        int from = (int) Math.max(0, startDate.toEpochDay() - baseEpochDay);
+        int to = (int) Math.min(limit, endDate.toEpochDay() - baseEpochDay);
+        if (to > from) {
+            bits.set(from, to);
+        }
+    }
+
+    /**
+     * [startDate, endDate] 기간의 달력 문자열 반환 (하루 한 글자, '1' 예약 불가 - 예약됨/지난 날짜/예약 가능 기간 밖, '0' 예약 가능)
+     */
+    public String calendar(Long vacantHouseId, LocalDate startDate, LocalDate endDate) {
+        int days = (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+        StringBuilder result = new StringBuilder(days);
+        long today = LocalDate.now().toEpochDay();
+        Calendars current = state;
+        BitSet bits = current.bits().get(vacantHouseId);
+
+        for (long day = startDate.toEpochDay(); day <= endDate.toEpochDay(); day++) {
+            boolean booked = day < today || day >= today + HORIZON_DAYS
+                    || (bits != null && bits.get((int) (day - current.baseEpochDay())));
+            result.append(booked ? BOOKED : FREE);
+        }
+        return result.toString();
+    }
+
+    /**
+     * 기준일과 빈집별 비트맵 (한 번에 교체)
+     */
+    private record Calendars(long baseEpochDay, Map<Long, BitSet> bits) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.ddasum.domain.reservation.index;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 인덱스(기간/달력) 갱신 전파
+ * 예약이 바뀐 빈집은 커밋 후 DB 에서 다시 적재하고, Redis 채널로 다른 인스턴스에도 같은 빈집의 재적재를 알린다.
+ * 변경 내용 대신 빈집 ID 만 보내므로 메시지 순서가 바뀌거나 중복되어도 결과는 DB 와 같아진다.
+ */
+@Slf4j
+@Component
+public class ReservationIndexSynchronizer implements MessageListener {
+
+    private static final String CHANNEL = "reservation:index";
+    private static final int LOCK_STRIPES = 64;
+
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final ReservationCalendarIndex calendarIndex;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    // 자신이 발행한 메시지를 구분하기 위한 인스턴스 ID
+    private final String nodeId = UUID.randomUUID().toString();
+    // 같은 빈집의 재적재 직렬화 (먼저 읽은 DB 결과가 나중에 읽은 결과를 덮어쓰지 않게 한다)
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+    {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public ReservationIndexSynchronizer(ReservationAvailabilityIndex availabilityIndex,
+                                        ReservationCalendarIndex calendarIndex,
+                                        RedisTemplate<String, String> redisTemplate,
+                                        RedisMessageListenerContainer listenerContainer) {
+        this.availabilityIndex = availabilityIndex;
+        this.calendarIndex = calendarIndex;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 빈집 예약 변경 후 호출 (트랜잭션 안이면 커밋 후, 아니면 바로 재적재 + 다른 인스턴스에 알림)
+     */
+    public void houseChanged(Long vacantHouseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadAndPublish(vacantHouseId);
+                }
+            });
+        } else {
+            reloadAndPublish(vacantHouseId);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 변경 반영 (형식: nodeId|vacantHouseId)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || body.startsWith(nodeId + "|")) {
+            return;
+        }
+        try {
+            reload(Long.valueOf(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 예약 인덱스 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 한 빈집의 기간/달력 인덱스를 DB 기준으로 재적재
+     */
+    public void reload(Long vacantHouseId) {
+        Lock lock = locks[Math.floorMod(Long.hashCode(vacantHouseId), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            availabilityIndex.reload(vacantHouseId);
+            calendarIndex.reload(vacantHouseId);
+        } catch (Exception e) {
+            // 인덱스는 조회용 사본이므로 실패해도 예약 처리는 유지 (다음 변경 때 다시 적재)
+            log.error("예약 인덱스 재적재 실패: 빈집 {} - {}", vacantHouseId, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reloadAndPublish(Long vacantHouseId) {
+        reload(vacantHouseId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + vacantHouseId);
+        } catch (Exception e) {
+            log.warn("예약 인덱스 갱신 메시지 발행 실패: 빈집 {} - {}", vacantHouseId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ddasum.domain.reservation.mapper;
+
+import com.ddasum.domain.reservation.dto.ReservationResponse;
+import com.ddasum.domain.reservation.entity.Reservation;
+
+/**
+ * 예약 엔티티 -> 응답 DTO 변환 (연관 엔티티는 ID만 사용하므로 지연 로딩 프록시를 초기화하지 않음)
+ */
+public final class ReservationMapper {
+
+    private ReservationMapper() {
+    }
+
+    public static ReservationResponse toResponse(Reservation entity) {
+        return ReservationResponse.builder()
+                .id(entity.getId())
+                .userId(entity.getUser() != null ? entity.getUser().getId() : null)
+                .vacantHouseId(entity.getVacantHouse() != null ? entity.getVacantHouse().getId() : null)
+                .startDate(entity.getStartDate())
+                .endDate(entity.getEndDate())
+                .peopleCount(entity.getPeopleCount())
+                .status(entity.getStatus())
+                .build();
+    }
+}
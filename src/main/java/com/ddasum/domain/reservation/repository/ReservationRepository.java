@@ -1,13 +1,74 @@
 package com.ddasum.domain.reservation.repository;
 
+import com.ddasum.core.constants.CommonConstants;
+import com.ddasum.domain.reservation.dto.ReservationResponse;
 import com.ddasum.domain.reservation.entity.Reservation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     // 유저 ID로 예약 목록 조회
     List<Reservation> findByUserId(Long userId);
     // 빈집 ID로 예약 목록 조회
     List<Reservation> findByVacantHouseId(Long vacantHouseId);
+    // 예약 기간 인덱스 적재용 (id, vacantHouseId, startDate, endDate) - from 이후에 끝나는 예약만
+    @Query("select r.id, r.vacantHouse.id, r.startDate, r.endDate from Reservation r " +
+           "where (r.status is null or r.status <> :cancelled) " +
+           "and r.startDate is not null and r.endDate > :from")
+    List<Object[]> findActivePeriods(@Param("cancelled") String cancelledStatus,
+                                     @Param("from") LocalDate from);
+
+    // 한 빈집의 예약 기간 재적재용 (id, startDate, endDate) - from 이후에 끝나는 예약만
+    @Query("select r.id, r.startDate, r.endDate from Reservation r " +
+           "where r.vacantHouse.id = :vacantHouseId " +
+           "and (r.status is null or r.status <> :cancelled) " +
+           "and r.startDate is not null and r.endDate > :from")
+    List<Object[]> findActivePeriodsByHouse(@Param("vacantHouseId") Long vacantHouseId,
+                                            @Param("cancelled") String cancelledStatus,
+                                            @Param("from") LocalDate from);
+
+    // 기간 겹침 여부 ([startDate, endDate) 반열린 구간, excludeId 는 제외) - 빈집 행을 잠근 트랜잭션에서 호출
+    @Query("select case when count(r) > 0 then true else false end from Reservation r " +
+           "where r.vacantHouse.id = :vacantHouseId " +
+           "and (r.status is null or r.status <> :cancelled) " +
+           "and r.startDate < :endDate and r.endDate > :startDate " +
+           "and (:excludeId is null or r.id <> :excludeId)")
+    boolean existsOverlap(@Param("vacantHouseId") Long vacantHouseId,
+                          @Param("cancelled") String cancelledStatus,
+                          @Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate,
+                          @Param("excludeId") Long excludeId);
+
+    // 응답 DTO 직접 조회 (FK 컬럼만 읽으므로 연관 엔티티를 조인/초기화하지 않음)
+    // 목록은 엔티티 조회 시절과 같은 id 오름차순으로 반환한다
+    String RESPONSE_SELECT = "select new com.ddasum.domain.reservation.dto.ReservationResponse(" +
+            "r.id, r.user.id, r.vacantHouse.id, r.startDate, r.endDate, r.peopleCount, r.status) " +
+            "from Reservation r ";
+
+    @Query(RESPONSE_SELECT + "order by r.id")
+    List<ReservationResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "where r.user.id = :userId order by r.id")
+    List<ReservationResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(RESPONSE_SELECT + "where r.vacantHouse.id = :vacantHouseId order by r.id")
+    List<ReservationResponse> findResponsesByVacantHouseId(@Param("vacantHouseId") Long vacantHouseId);
+
+    @Query(value = RESPONSE_SELECT, countQuery = "select count(r) from Reservation r")
+    Page<ReservationResponse> findResponsePage(Pageable pageable);
+
+    // 내보내기용 스트림 (호출 측 트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + CommonConstants.EXPORT_FETCH_SIZE))
+    @Query(RESPONSE_SELECT + "order by r.id")
+    Stream<ReservationResponse> streamAllResponses();
 }
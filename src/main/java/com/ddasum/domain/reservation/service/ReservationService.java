@@ -1,9 +1,14 @@
 package com.ddasum.domain.reservation.service;
 
+import com.ddasum.domain.reservation.dto.ReservationCalendarResponse;
 import com.ddasum.domain.reservation.dto.ReservationCreateRequest;
 import com.ddasum.domain.reservation.dto.ReservationUpdateRequest;
 import com.ddasum.domain.reservation.dto.ReservationResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ReservationService {
     ReservationResponse createReservation(ReservationCreateRequest request);
@@ -11,6 +16,10 @@ public interface ReservationService {
     void deleteReservation(Long id);
     ReservationResponse getByReservationId(Long id);
     List<ReservationResponse> getByReservationAll();
+    Page<ReservationResponse> getByReservationAll(Pageable pageable);
+    void exportAll(Consumer<ReservationResponse> consumer);
     List<ReservationResponse> getByUserId(Long userId);
     List<ReservationResponse> getByVacantHouseId(Long vacantHouseId);
+    ReservationCalendarResponse getCalendar(Long vacantHouseId, YearMonth month, int months);
+    List<ReservationCalendarResponse> getCalendars(List<Long> vacantHouseIds, YearMonth month, int months);
 } 
\ No newline at end of file
@@ -2,6 +2,9 @@ package com.ddasum.domain.reservation.service;
 
 import com.ddasum.domain.reservation.dto.*;
 import com.ddasum.domain.reservation.entity.Reservation;
+import com.ddasum.domain.reservation.mapper.ReservationMapper;
+import com.ddasum.domain.reservation.index.ReservationCalendarIndex;
+import com.ddasum.domain.reservation.index.ReservationIndexSynchronizer;
 import com.ddasum.domain.reservation.repository.ReservationRepository;
 import com.ddasum.domain.user.entity.User;
 import com.ddasum.domain.user.repository.UserRepository;
@@ -9,11 +12,19 @@ import com.ddasum.domain.vacanthouse.entity.VacantHouse;
 import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
-import org.modelmapper.ModelMapper;
-import jakarta.annotation.PostConstruct;
 
 @Service
 @RequiredArgsConstructor
@@ -22,53 +33,81 @@ public class ReservationServiceImpl implements ReservationService {
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final VacantHouseRepository vacantHouseRepository;
-    private final ModelMapper modelMapper;
-
-    @PostConstruct
-    public void configureModelMapper() {
-        modelMapper.typeMap(Reservation.class, ReservationResponse.class)
-            .addMappings(mapper -> {
-                mapper.map(src -> src.getUser().getId(), ReservationResponse::setUserId);
-                mapper.map(src -> src.getVacantHouse().getId(), ReservationResponse::setVacantHouseId);
-            });
-    }
+    private final ReservationCalendarIndex calendarIndex;
+    private final ReservationIndexSynchronizer indexSynchronizer;
+
+    private static final int MAX_CALENDAR_MONTHS = 12;
+    private static final int MAX_CALENDAR_HOUSES = 100;
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = "reservationList", allEntries = true)
     public ReservationResponse createReservation(ReservationCreateRequest request) {
+        validatePeriod(request.getStartDate(), request.getEndDate());
+        validateHorizon(request.getEndDate());
         User user = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        VacantHouse house = vacantHouseRepository.findById(request.getVacantHouseId())
+        // 빈집 행을 잠가 같은 빈집의 예약 생성/수정을 모든 인스턴스에서 직렬화한 뒤 DB 기준으로 겹침 확인
+        VacantHouse house = vacantHouseRepository.findByIdForUpdate(request.getVacantHouseId())
                 .orElseThrow(() -> new IllegalArgumentException("빈집을 찾을 수 없습니다."));
+        checkOverlap(house.getId(), request.getStartDate(), request.getEndDate(), null);
         Reservation entity = Reservation.builder()
                 .user(user)
                 .vacantHouse(house)
                 .startDate(request.getStartDate())
                 .endDate(request.getEndDate())
                 .peopleCount(request.getPeopleCount())
-                .status("진행중")
+                .status(Reservation.STATUS_IN_PROGRESS)
                 .build();
         Reservation saved = reservationRepository.save(entity);
+        indexSynchronizer.houseChanged(house.getId());
         return toResponse(saved);
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "reservation", key = "#id"),
+            @CacheEvict(cacheNames = "reservationList", allEntries = true)
+    })
     public ReservationResponse updateReservation(Long id, ReservationUpdateRequest request) {
+        validatePeriod(request.getStartDate(), request.getEndDate());
         Reservation rs = reservationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+        Long houseId = rs.getVacantHouse().getId();
+        vacantHouseRepository.findByIdForUpdate(houseId)
+                .orElseThrow(() -> new IllegalArgumentException("빈집을 찾을 수 없습니다."));
+        if (!Reservation.STATUS_CANCELLED.equals(request.getStatus())) {
+            validateHorizon(request.getEndDate());
+            checkOverlap(houseId, request.getStartDate(), request.getEndDate(), id);
+        }
         rs.setStartDate(request.getStartDate());
         rs.setEndDate(request.getEndDate());
         rs.setPeopleCount(request.getPeopleCount());
         rs.setStatus(request.getStatus());
         Reservation updated = reservationRepository.save(rs);
+        indexSynchronizer.houseChanged(houseId);
         return toResponse(updated);
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "reservation", key = "#id"),
+            @CacheEvict(cacheNames = "reservationList", allEntries = true)
+    })
     public void deleteReservation(Long id) {
-        reservationRepository.deleteById(id);
+        Reservation rs = reservationRepository.findById(id).orElse(null);
+        if (rs == null) {
+            return;
+        }
+        Long houseId = rs.getVacantHouse().getId();
+        reservationRepository.delete(rs);
+        indexSynchronizer.houseChanged(houseId);
     }
 
     @Override
+    @Cacheable(cacheNames = "reservation", key = "#id")
     public ReservationResponse getByReservationId(Long id) {
         Reservation entity = reservationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
@@ -76,27 +115,83 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     @Override
+    @Cacheable(cacheNames = "reservationList", key = "'all'")
     public List<ReservationResponse> getByReservationAll() {
-        return reservationRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return reservationRepository.findAllResponses();
+    }
+
+    @Override
+    public Page<ReservationResponse> getByReservationAll(Pageable pageable) {
+        return reservationRepository.findResponsePage(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ReservationResponse> consumer) {
+        try (Stream<ReservationResponse> rows = reservationRepository.streamAllResponses()) {
+            rows.forEach(consumer);
+        }
     }
 
     @Override
+    @Cacheable(cacheNames = "reservationList", key = "'user:' + #userId")
     public List<ReservationResponse> getByUserId(Long userId) {
-        return reservationRepository.findByUserId(userId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return reservationRepository.findResponsesByUserId(userId);
     }
 
     @Override
+    @Cacheable(cacheNames = "reservationList", key = "'house:' + #vacantHouseId")
     public List<ReservationResponse> getByVacantHouseId(Long vacantHouseId) {
-        return reservationRepository.findByVacantHouseId(vacantHouseId).stream()
-                .map(this::toResponse)
+        return reservationRepository.findResponsesByVacantHouseId(vacantHouseId);
+    }
+
+    @Override
+    public ReservationCalendarResponse getCalendar(Long vacantHouseId, YearMonth month, int months) {
+        YearMonth from = month != null ? month : YearMonth.now();
+        YearMonth to = from.plusMonths(Math.max(1, Math.min(months, MAX_CALENDAR_MONTHS)) - 1);
+        LocalDate startDate = from.atDay(1);
+        LocalDate endDate = to.atEndOfMonth();
+        return ReservationCalendarResponse.builder()
+                .vacantHouseId(vacantHouseId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .calendar(calendarIndex.calendar(vacantHouseId, startDate, endDate))
+                .build();
+    }
+
+    @Override
+    public List<ReservationCalendarResponse> getCalendars(List<Long> vacantHouseIds, YearMonth month, int months) {
+        if (vacantHouseIds.size() > MAX_CALENDAR_HOUSES) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 빈집 수를 초과했습니다.");
+        }
+        return vacantHouseIds.stream()
+                .distinct()
+                .map(vacantHouseId -> getCalendar(vacantHouseId, month, months))
                 .collect(Collectors.toList());
     }
 
+    // 메모리 인덱스는 인스턴스마다 늦게 반영될 수 있으므로 확정 판단은 DB 로 한다
+    private void checkOverlap(Long vacantHouseId, LocalDate startDate, LocalDate endDate, Long excludeId) {
+        if (reservationRepository.existsOverlap(vacantHouseId, Reservation.STATUS_CANCELLED, startDate, endDate, excludeId)) {
+            throw new IllegalArgumentException("해당 기간에 이미 예약이 있습니다.");
+        }
+    }
+
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || !endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("예약 기간이 올바르지 않습니다.");
+        }
+    }
+
+    // 예약은 오늘부터 HORIZON_DAYS 일 이내만 받는다 (달력 비트맵 크기 상한)
+    private void validateHorizon(LocalDate endDate) {
+        if (endDate.isAfter(LocalDate.now().plusDays(ReservationCalendarIndex.HORIZON_DAYS))) {
+            throw new IllegalArgumentException(
+                    "예약은 오늘부터 " + ReservationCalendarIndex.HORIZON_DAYS + "일 이내로만 가능합니다.");
+        }
+    }
+
     private ReservationResponse toResponse(Reservation entity) {
-        return modelMapper.map(entity, ReservationResponse.class);
+        return ReservationMapper.toResponse(entity);
     }
 } 
\ No newline at end of file
@@ -6,6 +6,15 @@ import com.ddasum.core.annotation.TraceLog;
 import com.ddasum.core.controller.BaseController;
 import com.ddasum.domain.review.dto.*;
 import com.ddasum.domain.review.service.ReviewService;
+import com.ddasum.core.annotation.AdminOnly;
+import com.ddasum.core.constants.CommonConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +27,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReviewController extends BaseController {
     private final ReviewService reviewService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ApiResponse<ReviewResponse>> create(@RequestBody ReviewCreateRequest request) {
@@ -45,6 +55,19 @@ public class ReviewController extends BaseController {
         return success(reviewService.getByReviewAll());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<Page<ReviewResponse>>> getPage(
+            @PageableDefault(size = CommonConstants.DEFAULT_PAGE_SIZE, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        return successPage(reviewService.getByReviewAll(pageable));
+    }
+
+    // 관리자용 전체 내보내기 (NDJSON 스트리밍, 한 줄에 한 건)
+    @AdminOnly
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjson(objectMapper, reviewService::exportAll);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<List<ReviewResponse>>> getByUserId(@PathVariable Long userId) {
         return success(reviewService.getByUserId(userId));
@@ -7,7 +7,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TBL_REVIEW")
+@Table(name = "TBL_REVIEW", indexes = {
+        // 빈집별 리뷰 목록 (최신순)
+        @Index(name = "idx_review_house", columnList = "vacantHouse_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
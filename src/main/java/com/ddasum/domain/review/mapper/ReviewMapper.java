@@ -0,0 +1,25 @@
+package com.ddasum.domain.review.mapper;
+
+import com.ddasum.domain.review.dto.ReviewResponse;
+import com.ddasum.domain.review.entity.Review;
+
+/**
+ * 리뷰 엔티티 -> 응답 DTO 변환 (연관 엔티티는 ID만 사용하므로 지연 로딩 프록시를 초기화하지 않음)
+ */
+public final class ReviewMapper {
+
+    private ReviewMapper() {
+    }
+
+    public static ReviewResponse toResponse(Review entity) {
+        return ReviewResponse.builder()
+                .id(entity.getId())
+                .userId(entity.getUser() != null ? entity.getUser().getId() : null)
+                .vacantHouseId(entity.getVacantHouse() != null ? entity.getVacantHouse().getId() : null)
+                .rating(entity.getRating())
+                .content(entity.getContent())
+                .imageUrl(entity.getImageUrl())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+}
@@ -1,10 +1,51 @@
 package com.ddasum.domain.review.repository;
 
+import com.ddasum.core.constants.CommonConstants;
+import com.ddasum.domain.review.dto.ReviewResponse;
 import com.ddasum.domain.review.entity.Review;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByUserId(Long userId);
     List<Review> findByVacantHouseId(Long vacantHouseId);
-} 
\ No newline at end of file
+
+    // 평점 수정/삭제용 - 이전 평점을 읽고 집계에 반영하는 동안 다른 수정/삭제를 막는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Review r where r.id = :id")
+    Optional<Review> findByIdForUpdate(@Param("id") Long id);
+
+    // 응답 DTO 직접 조회 (FK 컬럼만 읽으므로 연관 엔티티를 조인/초기화하지 않음)
+    // 목록은 엔티티 조회 시절과 같은 id 오름차순으로 반환한다
+    String RESPONSE_SELECT = "select new com.ddasum.domain.review.dto.ReviewResponse(" +
+            "r.id, r.user.id, r.vacantHouse.id, r.rating, r.content, r.imageUrl, r.createdAt) " +
+            "from Review r ";
+
+    @Query(RESPONSE_SELECT + "order by r.id")
+    List<ReviewResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "where r.user.id = :userId order by r.id")
+    List<ReviewResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(RESPONSE_SELECT + "where r.vacantHouse.id = :vacantHouseId order by r.id")
+    List<ReviewResponse> findResponsesByVacantHouseId(@Param("vacantHouseId") Long vacantHouseId);
+
+    @Query(value = RESPONSE_SELECT, countQuery = "select count(r) from Review r")
+    Page<ReviewResponse> findResponsePage(Pageable pageable);
+
+    // 내보내기용 스트림 (호출 측 트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + CommonConstants.EXPORT_FETCH_SIZE))
+    @Query(RESPONSE_SELECT + "order by r.id")
+    Stream<ReviewResponse> streamAllResponses();
+}
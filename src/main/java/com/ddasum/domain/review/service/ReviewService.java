@@ -1,7 +1,10 @@
 package com.ddasum.domain.review.service;
 
 import com.ddasum.domain.review.dto.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ReviewService {
     ReviewResponse createReview(ReviewCreateRequest request);
@@ -9,6 +12,8 @@ public interface ReviewService {
     void deleteReview(Long id);
     ReviewResponse getByReviewId(Long id);
     List<ReviewResponse> getByReviewAll();
+    Page<ReviewResponse> getByReviewAll(Pageable pageable);
+    void exportAll(Consumer<ReviewResponse> consumer);
     List<ReviewResponse> getByUserId(Long userId);
     List<ReviewResponse> getByVacantHouseId(Long vacantHouseId);
 } 
\ No newline at end of file
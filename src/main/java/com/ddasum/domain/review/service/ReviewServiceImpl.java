@@ -2,17 +2,25 @@ package com.ddasum.domain.review.service;
 
 import com.ddasum.domain.review.dto.*;
 import com.ddasum.domain.review.entity.Review;
+import com.ddasum.domain.review.mapper.ReviewMapper;
 import com.ddasum.domain.review.repository.ReviewRepository;
 import com.ddasum.domain.user.entity.User;
 import com.ddasum.domain.user.repository.UserRepository;
 import com.ddasum.domain.vacanthouse.entity.VacantHouse;
 import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import jakarta.annotation.PostConstruct;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -20,19 +28,13 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final VacantHouseRepository vacantHouseRepository;
-    private final ModelMapper modelMapper;
-
-    @PostConstruct
-    public void configureModelMapper() {
-        modelMapper.typeMap(Review.class, ReviewResponse.class)
-            .addMappings(mapper -> {
-                mapper.map(src -> src.getUser().getId(), ReviewResponse::setUserId);
-                mapper.map(src -> src.getVacantHouse().getId(), ReviewResponse::setVacantHouseId);
-            });
-    }
+    private final CacheManager cacheManager;
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = "reviewList", allEntries = true)
     public ReviewResponse createReview(ReviewCreateRequest request) {
+        validateRating(request.getRating());
         User user = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         VacantHouse house = vacantHouseRepository.findById(request.getVacantHouseId())
@@ -45,26 +47,49 @@ public class ReviewServiceImpl implements ReviewService {
                 .imageUrl(request.getImageUrl())
                 .build();
         Review saved = reviewRepository.save(entity);
+        applyRatingChange(house.getId(), 1, saved.getRating(), 0);
         return toResponse(saved);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "review", key = "#id"),
+            @CacheEvict(cacheNames = "reviewList", allEntries = true)
+    })
+    @Transactional
     public ReviewResponse updateReview(Long id, ReviewUpdateRequest request) {
-        Review entity = reviewRepository.findById(id)
+        validateRating(request.getRating());
+        // 잠금 없이 읽으면 동시 수정이 같은 이전 평점으로 증분을 계산해 집계가 어긋난다
+        Review entity = reviewRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+        int previousRating = entity.getRating();
         entity.setRating(request.getRating());
         entity.setContent(request.getContent());
         entity.setImageUrl(request.getImageUrl());
         Review updated = reviewRepository.save(entity);
+        if (previousRating != updated.getRating()) {
+            applyRatingChange(updated.getVacantHouse().getId(), 0, updated.getRating(), previousRating);
+        }
         return toResponse(updated);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "review", key = "#id"),
+            @CacheEvict(cacheNames = "reviewList", allEntries = true)
+    })
+    @Transactional
     public void deleteReview(Long id) {
-        reviewRepository.deleteById(id);
+        Review entity = reviewRepository.findByIdForUpdate(id).orElse(null);
+        if (entity == null) {
+            return;
+        }
+        reviewRepository.delete(entity);
+        applyRatingChange(entity.getVacantHouse().getId(), -1, 0, entity.getRating());
     }
 
     @Override
+    @Cacheable(cacheNames = "review", key = "#id")
     public ReviewResponse getByReviewId(Long id) {
         Review entity = reviewRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
@@ -72,27 +97,64 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
+    @Cacheable(cacheNames = "reviewList", key = "'all'")
     public List<ReviewResponse> getByReviewAll() {
-        return reviewRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return reviewRepository.findAllResponses();
     }
 
     @Override
+    public Page<ReviewResponse> getByReviewAll(Pageable pageable) {
+        return reviewRepository.findResponsePage(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ReviewResponse> consumer) {
+        try (Stream<ReviewResponse> rows = reviewRepository.streamAllResponses()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Cacheable(cacheNames = "reviewList", key = "'user:' + #userId")
     public List<ReviewResponse> getByUserId(Long userId) {
-        return reviewRepository.findByUserId(userId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return reviewRepository.findResponsesByUserId(userId);
     }
 
     @Override
+    @Cacheable(cacheNames = "reviewList", key = "'house:' + #vacantHouseId")
     public List<ReviewResponse> getByVacantHouseId(Long vacantHouseId) {
-        return reviewRepository.findByVacantHouseId(vacantHouseId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return reviewRepository.findResponsesByVacantHouseId(vacantHouseId);
+    }
+
+    private void validateRating(int rating) {
+        if (rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("평점은 1~5 사이여야 합니다.");
+        }
+    }
+
+    /**
+     * 빈집 평점 집계 증분 갱신 (리뷰 테이블을 다시 읽지 않음)
+     * addedRating/removedRating 이 0이면 해당 방향 변화 없음
+     */
+    private void applyRatingChange(Long vacantHouseId, int countDelta, int addedRating, int removedRating) {
+        vacantHouseRepository.applyRatingDelta(vacantHouseId, countDelta, addedRating - removedRating, addedRating, removedRating);
+        vacantHouseRepository.refreshRatingAverage(vacantHouseId);
+        // 평점이 응답에 포함되므로 빈집 캐시도 무효화
+        // (캐시는 TransactionAwareCacheDecorator 로 감싸져 있어 커밋 후에 반영된다. 커밋 전에 지우면
+        //  동시 조회가 이전 집계를 TTL 동안 다시 캐싱하므로, 여기서 직접 afterCommit 을 등록하지 않는다:
+        //  afterCommit 안에서 호출하면 데코레이터가 등록하는 동기화가 실행되지 않는다)
+        Cache houseCache = cacheManager.getCache("house");
+        if (houseCache != null) {
+            houseCache.evict(vacantHouseId);
+        }
+        Cache houseListCache = cacheManager.getCache("houseList");
+        if (houseListCache != null) {
+            houseListCache.clear();
+        }
     }
 
     private ReviewResponse toResponse(Review entity) {
-        return modelMapper.map(entity, ReviewResponse.class);
+        return ReviewMapper.toResponse(entity);
     }
 } 
\ No newline at end of file
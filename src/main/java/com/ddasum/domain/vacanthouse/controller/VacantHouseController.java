@@ -3,13 +3,31 @@ package com.ddasum.domain.vacanthouse.controller;
 import com.ddasum.core.api.response.ApiResponse;
 import com.ddasum.core.annotation.LoginRequired;
 import com.ddasum.core.annotation.TraceLog;
+import com.ddasum.core.api.response.CursorPageResponse;
+import com.ddasum.core.constants.CommonConstants;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseCreateRequest;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseImportResponse;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseLocationResponse;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseUpdateRequest;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseResponse;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseSearchCondition;
+import com.ddasum.domain.vacanthouse.service.VacantHouseImportService;
 import com.ddasum.domain.vacanthouse.service.VacantHouseService;
+import com.ddasum.core.annotation.AdminOnly;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @LoginRequired
@@ -19,6 +37,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class VacantHouseController extends com.ddasum.core.controller.BaseController {
     private final VacantHouseService vacantHouseService;
+    private final VacantHouseImportService vacantHouseImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ApiResponse<VacantHouseResponse>> create(@RequestBody VacantHouseCreateRequest request) {
@@ -29,6 +49,28 @@ public class VacantHouseController extends com.ddasum.core.controller.BaseContro
         }
     }
 
+    // 관리자용 대량 등록 (JSON 배열)
+    @AdminOnly
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<VacantHouseImportResponse>> importHouses(@RequestBody List<VacantHouseCreateRequest> requests) {
+        try {
+            return success(vacantHouseImportService.importHouses(requests));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_IMPORT_ERROR"));
+        }
+    }
+
+    // 관리자용 대량 등록 (CSV 헤더: address,region,latitude,longitude,description,price,available,imageUrl)
+    @AdminOnly
+    @PostMapping(value = "/import/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<VacantHouseImportResponse>> importCsv(@RequestParam("file") MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return success(vacantHouseImportService.importCsv(in));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_IMPORT_ERROR"));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<VacantHouseResponse>> update(@PathVariable Long id, @RequestBody VacantHouseUpdateRequest request) {
         try {
@@ -65,4 +107,83 @@ public class VacantHouseController extends com.ddasum.core.controller.BaseContro
             return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_LIST_ERROR"));
         }
     }
+
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<Page<VacantHouseResponse>>> getPage(
+            @PageableDefault(size = CommonConstants.DEFAULT_PAGE_SIZE, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        try {
+            return successPage(vacantHouseService.getAll(pageable));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_LIST_ERROR"));
+        }
+    }
+
+    // 관리자용 전체 내보내기 (NDJSON 스트리밍, 한 줄에 한 건)
+    @AdminOnly
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjson(objectMapper, vacantHouseService::exportAll);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<VacantHouseResponse>>> getPage(
+            @ModelAttribute VacantHouseSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CommonConstants.DEFAULT_PAGE_SIZE) int size) {
+        try {
+            return success(vacantHouseService.getPage(condition, cursor, size));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_LIST_ERROR"));
+        }
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<VacantHouseLocationResponse>>> getNearby(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") int k) {
+        try {
+            return success(vacantHouseService.getNearby(latitude, longitude, k));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_NEARBY_ERROR"));
+        }
+    }
+
+    @GetMapping("/within")
+    public ResponseEntity<ApiResponse<List<VacantHouseLocationResponse>>> getWithin(
+            @RequestParam double minLatitude,
+            @RequestParam double minLongitude,
+            @RequestParam double maxLatitude,
+            @RequestParam double maxLongitude,
+            @RequestParam(defaultValue = "" + CommonConstants.MAX_PAGE_SIZE) int limit) {
+        try {
+            return success(vacantHouseService.getWithin(minLatitude, minLongitude, maxLatitude, maxLongitude, limit));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_WITHIN_ERROR"));
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<VacantHouseResponse>>> search(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "" + CommonConstants.DEFAULT_PAGE_SIZE) int size) {
+        try {
+            return success(vacantHouseService.search(keyword, size));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_SEARCH_ERROR"));
+        }
+    }
+
+    @GetMapping("/available")
+    public ResponseEntity<ApiResponse<CursorPageResponse<VacantHouseResponse>>> getAvailableBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CommonConstants.DEFAULT_PAGE_SIZE) int size) {
+        try {
+            return success(vacantHouseService.getAvailableBetween(startDate, endDate, cursor, size));
+        } catch (Exception e) {
+            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), "VACANT_HOUSE_AVAILABLE_ERROR"));
+        }
+    }
 } 
\ No newline at end of file
@@ -6,6 +6,8 @@ import lombok.Data;
 public class VacantHouseCreateRequest {
     private String address;
     private String region;
+    private Double latitude;
+    private Double longitude;
     private String description;
     private int price;
     private boolean available;
@@ -0,0 +1,32 @@
+package com.ddasum.domain.vacanthouse.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 빈집 대량 등록 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacantHouseImportResponse {
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private long elapsedMillis;
+    private long rowsPerSecond; // 저장 성공 건수 기준 처리량
+    private List<RowError> errors; // 앞에서부터 최대 1000건까지만 담는다
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row; // 1부터 시작하는 데이터 행 번호 (CSV 헤더 제외)
+        private String message;
+    }
+}
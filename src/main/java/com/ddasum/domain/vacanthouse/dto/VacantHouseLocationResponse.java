@@ -0,0 +1,17 @@
+package com.ddasum.domain.vacanthouse.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacantHouseLocationResponse {
+    private Long id;
+    private double latitude;
+    private double longitude;
+    private Double distanceKm; // 최근접 조회 시에만 채워짐
+}
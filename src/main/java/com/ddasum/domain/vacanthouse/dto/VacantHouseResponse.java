@@ -1,5 +1,6 @@
 package com.ddasum.domain.vacanthouse.dto;
 
+import com.ddasum.domain.region.dto.RegionInfo;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,10 +15,16 @@ public class VacantHouseResponse {
     private Long id;
     private String address;
     private String region;
+    private RegionInfo regionInfo; // 지역 테이블에 없는 이름이면 null
+    private Double latitude;
+    private Double longitude;
     private String description;
     private int price;
     private boolean available;
     private String imageUrl;
+    private int ratingCount;
+    private double ratingAverage;
+    private int[] ratingHistogram; // [1점, 2점, 3점, 4점, 5점] 리뷰 수
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 } 
\ No newline at end of file
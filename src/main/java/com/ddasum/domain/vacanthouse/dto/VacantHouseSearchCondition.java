@@ -0,0 +1,12 @@
+package com.ddasum.domain.vacanthouse.dto;
+
+import lombok.Data;
+
+@Data
+public class VacantHouseSearchCondition {
+    private String region;
+    private Boolean available;
+    private Integer minPrice;
+    private Integer maxPrice;
+    private String sort; // latest(기본, 최신 등록순) | rating(평점 높은 순)
+}
@@ -5,23 +5,61 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TBL_VACANT_HOUSE")
+@Table(name = "TBL_VACANT_HOUSE", indexes = {
+        @Index(name = "idx_vacant_house_region_available", columnList = "region, available, id"),
+        @Index(name = "idx_vacant_house_available_price", columnList = "available, price"),
+        @Index(name = "idx_vacant_house_rating", columnList = "ratingAverage, id"),
+        @Index(name = "idx_vacant_house_updated_at", columnList = "updatedAt")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class VacantHouse {
+    // 대량 등록 시 INSERT 배치가 가능하도록 시퀀스 사용 (50개 단위로 미리 할당, V5 마이그레이션의 ALLOCATION_SIZE 와 맞출 것)
+    // 인스턴스마다 자기 블록에서 채번하므로 여러 인스턴스에 걸친 id 순서는 등록 순서와 같지 않다
+    // (id 순 목록/커서는 "대략적인 최신순"이며, 정확한 등록 순서가 필요하면 createdAt 을 기준으로 정렬할 것)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vacant_house_seq")
+    @SequenceGenerator(name = "vacant_house_seq", sequenceName = "vacant_house_seq", allocationSize = 50)
     private Long id;
 
     private String address;
     private String region;
+    private Double latitude;  // 위도 (WGS84)
+    private Double longitude; // 경도 (WGS84)
     private String description;
     private int price;
     private boolean available;
     private String imageUrl;
+
+    // 리뷰 평점 집계 (리뷰 생성/수정/삭제 시 VacantHouseRepository 의 갱신 쿼리로만 변경, 엔티티 저장으로는 덮어쓰지 않음)
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int ratingCount = 0;
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private long ratingSum = 0;
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int rating1Count = 0;
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int rating2Count = 0;
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int rating3Count = 0;
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int rating4Count = 0;
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int rating5Count = 0;
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private double ratingAverage = 0;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -0,0 +1,320 @@
+package com.ddasum.domain.vacanthouse.index;
+
+import com.ddasum.domain.vacanthouse.dto.VacantHouseLocationResponse;
+import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 빈집 위치 인메모리 공간 인덱스 (위경도 고정 격자)
+ * DB를 거치지 않고 범위/최근접 조회를 처리한다.
+ * 인덱스는 인스턴스마다 따로 두므로, sync-interval 마다 마지막 동기화 이후 수정된 빈집 좌표를 DB 에서 다시 읽고
+ * 좌표 있는 빈집 수가 DB 와 다르면(다른 곳에서 삭제) 전체 좌표를 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VacantHouseGeoIndex {
+
+    private static final double CELL_DEGREES = 0.01; // 약 1.1km
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double CELL_KM = Math.toRadians(CELL_DEGREES) * EARTH_RADIUS_KM; // 셀 한 칸의 위도 방향 거리
+    private static final int MAX_RING = 200; // 최근접 조회 시 셀 탐색 반경 상한 (약 220km)
+    private static final int SYNC_PAGE_SIZE = 500;
+    // 인스턴스 간 시계 차이/트랜잭션 지연으로 늦게 보이는 수정분까지 포함하도록 기준 시각을 당긴다
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final VacantHouseRepository vacantHouseRepository;
+
+    // 셀 키 -> 빈집 ID 목록
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    // 빈집 ID -> 좌표
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    // 이 시각까지 수정된 빈집 좌표는 인덱스에 반영됨 (null 이면 기준 없음 -> 전체 적재)
+    private volatile LocalDateTime syncedUpTo;
+
+    /**
+     * 서버 시작 시 전체 좌표 적재
+     */
+    @PostConstruct
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 전체 좌표를 DB 기준으로 다시 적재 (비우지 않고 덮어쓴 뒤 DB 에 없는 좌표만 제거)
+     */
+    public synchronized void reload() {
+        // 읽기 전에 기준을 잡아, 읽는 중 수정된 행은 다음 동기화에서 다시 읽게 한다
+        LocalDateTime watermark = latestUpdatedAt();
+        Set<Long> loaded = new HashSet<>();
+        for (Object[] row : vacantHouseRepository.findAllLocations()) {
+            put((Long) row[0], (Double) row[1], (Double) row[2]);
+            loaded.add((Long) row[0]);
+        }
+        for (Long id : new ArrayList<>(points.keySet())) {
+            if (!loaded.contains(id)) {
+                remove(id);
+            }
+        }
+        syncedUpTo = watermark;
+        log.info("빈집 공간 인덱스 적재 완료: {}건", points.size());
+    }
+
+    /**
+     * 마지막 동기화 이후 다른 인스턴스/일괄 작업에서 바뀐 좌표 반영
+     */
+    @Scheduled(initialDelayString = "${ddasum.geo.sync-interval-ms:60000}",
+            fixedDelayString = "${ddasum.geo.sync-interval-ms:60000}")
+    public synchronized void syncWithDatabase() {
+        try {
+            LocalDateTime since = syncedUpTo;
+            if (since == null) {
+                reload();
+                return;
+            }
+            LocalDateTime watermark = latestUpdatedAt();
+            int updated = 0;
+            if (watermark != null && !watermark.isBefore(since)) {
+                LocalDateTime from = since.minusSeconds(SYNC_OVERLAP_SECONDS);
+                long afterId = 0;
+                List<Object[]> rows;
+                do {
+                    rows = vacantHouseRepository.findLocationsUpdatedSince(from, afterId, PageRequest.of(0, SYNC_PAGE_SIZE));
+                    for (Object[] row : rows) {
+                        // 좌표가 지워졌으면 put 이 제거한다
+                        put((Long) row[0], (Double) row[1], (Double) row[2]);
+                        afterId = (Long) row[0];
+                    }
+                    updated += rows.size();
+                } while (rows.size() == SYNC_PAGE_SIZE);
+                syncedUpTo = watermark;
+            }
+            long located = vacantHouseRepository.countLocated();
+            if (points.size() != located) {
+                log.info("빈집 공간 인덱스 건수 불일치({}/{}건), 전체 재적재", points.size(), located);
+                reload();
+                return;
+            }
+            if (updated > 0) {
+                log.info("빈집 공간 인덱스 동기화: {}건 반영", updated);
+            }
+        } catch (RuntimeException e) {
+            log.error("빈집 공간 인덱스 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private LocalDateTime latestUpdatedAt() {
+        List<Object[]> rows = vacantHouseRepository.findIndexWatermark();
+        return rows.isEmpty() ? null : (LocalDateTime) rows.get(0)[1];
+    }
+
+    /**
+     * 좌표 등록/갱신 (좌표가 없으면 인덱스에서 제거)
+     */
+    public void put(Long id, Double latitude, Double longitude) {
+        remove(id);
+        if (id == null || latitude == null || longitude == null) {
+            return;
+        }
+        Point point = new Point(id, latitude, longitude);
+        cells.computeIfAbsent(cellKey(cell(latitude), cell(longitude)), key -> ConcurrentHashMap.newKeySet()).add(id);
+        points.put(id, point);
+    }
+
+    /**
+     * 좌표 제거
+     */
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        Point old = points.remove(id);
+        if (old != null) {
+            long key = cellKey(cell(old.latitude), cell(old.longitude));
+            cells.computeIfPresent(key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * 사각 범위 내 빈집 조회
+     */
+    public List<VacantHouseLocationResponse> findWithin(double minLatitude, double minLongitude,
+                                                        double maxLatitude, double maxLongitude, int limit) {
+        List<VacantHouseLocationResponse> result = new ArrayList<>();
+        int minLatCell = cell(minLatitude);
+        int maxLatCell = cell(maxLatitude);
+        int minLngCell = cell(minLongitude);
+        int maxLngCell = cell(maxLongitude);
+        long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+
+        // 범위가 너무 넓으면 셀 순회보다 전체 좌표 순회가 빠르다
+        if (cellCount > points.size()) {
+            for (Point point : points.values()) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                if (point.isWithin(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+                    result.add(point.toResponse(null));
+                }
+            }
+            return result;
+        }
+
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                Set<Long> ids = cells.get(cellKey(latCell, lngCell));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    Point point = points.get(id);
+                    if (point != null && point.isWithin(minLatitude, minLongitude, maxLatitude, maxLongitude)) {
+                        result.add(point.toResponse(null));
+                        if (result.size() >= limit) {
+                            return result;
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 기준 좌표에서 가까운 빈집 k개 조회 (가까운 순)
+     * 중심 셀에서 링 단위로 넓혀 가며 테두리 셀만 방문하고, 링 반경이 MAX_RING 을 넘거나
+     * 방문한 셀 수가 좌표 수보다 많아지면(멀리 떨어진 좌표, k 가 전체보다 큰 경우 등) 전체 좌표 순회로 전환한다.
+     */
+    public List<VacantHouseLocationResponse> findNearest(double latitude, double longitude, int k) {
+        if (k <= 0 || points.isEmpty()) {
+            return List.of();
+        }
+        // 거리 기준 최대 힙 (가장 먼 후보가 맨 위)
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distanceKm).reversed());
+        int centerLat = cell(latitude);
+        int centerLng = cell(longitude);
+        long cellBudget = points.size();
+        long cellsVisited = 0;
+        boolean complete = false;
+
+        for (int ring = 0; ring <= MAX_RING; ring++) {
+            // 이번 링의 최소 거리가 현재 k번째 후보보다 멀면 더 볼 필요가 없다
+            // (경도 셀 폭은 링이 닿는 가장 높은 위도 기준으로 잡아 거리를 과대평가하지 않는다)
+            double cellKm = CELL_KM * Math.cos(Math.toRadians(Math.min(Math.abs(latitude) + ring * CELL_DEGREES, 89.0)));
+            if (heap.size() >= k && (ring - 1) * cellKm > heap.peek().distanceKm()) {
+                complete = true;
+                break;
+            }
+            cellsVisited += ring == 0 ? 1 : 8L * ring;
+            if (cellsVisited > cellBudget) {
+                break;
+            }
+            if (ring == 0) {
+                collect(centerLat, centerLng, latitude, longitude, k, heap);
+                continue;
+            }
+            // 링의 테두리 셀만 방문 (위/아래 행 전체 + 좌/우 열의 나머지)
+            for (int lngCell = centerLng - ring; lngCell <= centerLng + ring; lngCell++) {
+                collect(centerLat - ring, lngCell, latitude, longitude, k, heap);
+                collect(centerLat + ring, lngCell, latitude, longitude, k, heap);
+            }
+            for (int latCell = centerLat - ring + 1; latCell <= centerLat + ring - 1; latCell++) {
+                collect(latCell, centerLng - ring, latitude, longitude, k, heap);
+                collect(latCell, centerLng + ring, latitude, longitude, k, heap);
+            }
+        }
+
+        if (!complete) {
+            heap.clear();
+            for (Point point : points.values()) {
+                offer(heap, k, point, haversineKm(latitude, longitude, point.latitude, point.longitude));
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(heap);
+        sorted.sort(Comparator.comparingDouble(Candidate::distanceKm));
+        List<VacantHouseLocationResponse> result = new ArrayList<>(sorted.size());
+        for (Candidate candidate : sorted) {
+            result.add(candidate.point().toResponse(candidate.distanceKm()));
+        }
+        return result;
+    }
+
+    private void collect(int latCell, int lngCell, double latitude, double longitude, int k, PriorityQueue<Candidate> heap) {
+        Set<Long> ids = cells.get(cellKey(latCell, lngCell));
+        if (ids == null) {
+            return;
+        }
+        for (Long id : ids) {
+            Point point = points.get(id);
+            if (point != null) { // 조회 중 제거된 좌표
+                offer(heap, k, point, haversineKm(latitude, longitude, point.latitude, point.longitude));
+            }
+        }
+    }
+
+    private static void offer(PriorityQueue<Candidate> heap, int k, Point point, double distance) {
+        if (heap.size() < k) {
+            heap.add(new Candidate(point, distance));
+        } else if (distance < heap.peek().distanceKm()) {
+            heap.poll();
+            heap.add(new Candidate(point, distance));
+        }
+    }
+
+    /**
+     * 인덱스 크기 반환
+     */
+    public int size() {
+        return points.size();
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    private static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private record Point(Long id, double latitude, double longitude) {
+        boolean isWithin(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+            return latitude >= minLatitude && latitude <= maxLatitude
+                    && longitude >= minLongitude && longitude <= maxLongitude;
+        }
+
+        VacantHouseLocationResponse toResponse(Double distanceKm) {
+            return new VacantHouseLocationResponse(id, latitude, longitude, distanceKm);
+        }
+    }
+
+    private record Candidate(Point point, double distanceKm) {
+    }
+}
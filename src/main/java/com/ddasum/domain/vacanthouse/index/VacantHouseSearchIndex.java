@@ -0,0 +1,485 @@
+package com.ddasum.domain.vacanthouse.index;
+
+import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthCharFilter;
+import org.apache.lucene.analysis.core.TypeTokenFilter;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빈집 주소/설명/지역 전문 검색 인덱스 (로컬 디스크, Lucene)
+ * 한글은 공백 분리로는 복합어 검색이 안 되므로 CJK bigram 으로 색인한다.
+ * 한 글자 검색어는 bigram 과 일치하지 않으므로 필드마다 CJK 글자 하나씩을 따로 색인한 보조 필드(_unigram)에서 찾는다.
+ * 인덱스는 인스턴스마다 따로 두므로, 마지막으로 반영한 DB 수정 시각을 커밋 데이터에 남기고
+ * 시작 시와 sync-interval 마다 그 이후 수정분을 다시 색인한다.
+ * 건수가 어긋나면(다른 곳에서 삭제) DB 에 없는 id 만 지우고, 그래도 맞지 않을 때만 전체 재색인한다.
+ */
+@Slf4j
+@Component
+public class VacantHouseSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_ADDRESS = "address";
+    private static final String FIELD_REGION = "region";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String UNIGRAM_SUFFIX = "_unigram";
+    // 전체 재색인 세대 (재색인 중 갱신/추가된 문서도 새 세대로 쓰고, 끝나면 이전 세대 문서만 지운다)
+    private static final String FIELD_GENERATION = "generation";
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_ADDRESS, 2.0f,
+            FIELD_REGION, 1.5f,
+            FIELD_DESCRIPTION, 1.0f
+    );
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int REINDEX_PAGE_SIZE = 500;
+    private static final String COMMIT_UPDATED_AT = "updatedAt";
+    // 색인 필드 구성이 바뀌면 올려서 시작 시 전체 재색인하게 한다
+    private static final String COMMIT_FORMAT = "format";
+    private static final String FORMAT_VERSION = "2";
+    // 인스턴스 간 시계 차이/트랜잭션 지연으로 늦게 보이는 수정분까지 포함하도록 기준 시각을 당긴다
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final VacantHouseRepository vacantHouseRepository;
+    private final Path indexDir;
+    private final long syncIntervalSeconds;
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final Analyzer unigramAnalyzer = new CjkUnigramAnalyzer();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    // 이 시각까지 수정된 빈집은 색인에 반영됨 (null 이면 기준 없음 -> 전체 재색인)
+    private volatile LocalDateTime syncedUpTo;
+    private LocalDateTime committedUpTo;
+    private volatile long generation = System.currentTimeMillis();
+
+    public VacantHouseSearchIndex(VacantHouseRepository vacantHouseRepository,
+                                  @Value("${ddasum.search.index-dir}") String indexDir,
+                                  @Value("${ddasum.search.sync-interval-seconds:300}") long syncIntervalSeconds) {
+        this.vacantHouseRepository = vacantHouseRepository;
+        this.indexDir = Path.of(indexDir);
+        this.syncIntervalSeconds = syncIntervalSeconds;
+    }
+
+    /**
+     * 인덱스 열기 (비어 있거나 동기화 기준이 없으면 전체 색인, 있으면 그 이후 수정분만 색인)
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(indexDir);
+        directory = FSDirectory.open(indexDir);
+        Map<String, Analyzer> unigramFields = new HashMap<>();
+        for (String field : FIELD_BOOSTS.keySet()) {
+            unigramFields.put(field + UNIGRAM_SUFFIX, unigramAnalyzer);
+        }
+        IndexWriterConfig config = new IndexWriterConfig(new PerFieldAnalyzerWrapper(analyzer, unigramFields))
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        Map<String, String> commitData = readCommitData();
+        syncedUpTo = commitData.containsKey(COMMIT_UPDATED_AT) ? LocalDateTime.parse(commitData.get(COMMIT_UPDATED_AT)) : null;
+        committedUpTo = syncedUpTo;
+
+        if (writer.getDocStats().numDocs == 0 || syncedUpTo == null
+                || !FORMAT_VERSION.equals(commitData.get(COMMIT_FORMAT))) {
+            reindexAll();
+        } else {
+            syncWithDatabase();
+        }
+
+        // 변경분은 즉시 검색에 반영하고, 디스크 커밋은 주기적으로 수행
+        scheduler.scheduleWithFixedDelay(this::commit, 30, 30, TimeUnit.SECONDS);
+        scheduler.scheduleWithFixedDelay(this::scheduledSync, syncIntervalSeconds, syncIntervalSeconds, TimeUnit.SECONDS);
+        log.info("빈집 검색 인덱스 열기 완료: {} ({}건)", indexDir, writer.getDocStats().numDocs);
+    }
+
+    /**
+     * DB 전체를 다시 색인
+     * 기존 문서를 먼저 지우지 않고 id 키셋 순서로 덮어쓴 뒤 이전 세대 문서(DB 에서 사라진 빈집)만 지우므로,
+     * 재색인 중에 검색기가 갱신되어도 빈 인덱스나 일부만 색인된 인덱스가 검색에 노출되지 않는다.
+     */
+    public synchronized void reindexAll() throws IOException {
+        // 스캔 전에 기준을 잡아, 스캔 중 수정된 행은 다음 동기화에서 다시 색인되게 한다
+        LocalDateTime watermark = Watermark.load(vacantHouseRepository).updatedAt();
+        long rebuildGeneration = Math.max(System.currentTimeMillis(), generation + 1);
+        generation = rebuildGeneration;
+        long afterId = 0;
+        List<VacantHouse> chunk;
+        do {
+            chunk = vacantHouseRepository.findAfterId(afterId, PageRequest.of(0, REINDEX_PAGE_SIZE));
+            for (VacantHouse house : chunk) {
+                writer.updateDocument(idTerm(house.getId()), toDocument(house));
+                afterId = house.getId();
+            }
+        } while (chunk.size() == REINDEX_PAGE_SIZE);
+        writer.deleteDocuments(new BooleanQuery.Builder()
+                .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                .add(LongPoint.newExactQuery(FIELD_GENERATION, rebuildGeneration), BooleanClause.Occur.MUST_NOT)
+                .build());
+        syncedUpTo = watermark;
+        // 기준 시각이 그대로여도 형식 버전을 새로 남기도록 커밋 데이터를 다시 쓴다
+        committedUpTo = null;
+        commit();
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 마지막 동기화 이후 DB 에서 수정된 빈집 재색인
+     * 다른 인스턴스에서 삭제된 빈집은 수정 시각으로 찾을 수 없으므로, 건수가 어긋나면 DB id 와 비교해 지운다.
+     */
+    public synchronized void syncWithDatabase() throws IOException {
+        LocalDateTime since = syncedUpTo;
+        if (since == null) {
+            reindexAll();
+            return;
+        }
+        Watermark before = Watermark.load(vacantHouseRepository);
+        int reindexed = 0;
+        if (before.updatedAt() != null && !before.updatedAt().isBefore(since)) {
+            LocalDateTime from = since.minusSeconds(SYNC_OVERLAP_SECONDS);
+            long afterId = 0;
+            List<VacantHouse> chunk;
+            do {
+                chunk = vacantHouseRepository.findUpdatedSince(from, afterId, PageRequest.of(0, REINDEX_PAGE_SIZE));
+                for (VacantHouse house : chunk) {
+                    writer.updateDocument(idTerm(house.getId()), toDocument(house));
+                    afterId = house.getId();
+                }
+                reindexed += chunk.size();
+            } while (chunk.size() == REINDEX_PAGE_SIZE);
+            syncedUpTo = before.updatedAt();
+        }
+        searcherManager.maybeRefreshBlocking();
+        long indexed = indexedCount();
+        long expected = Watermark.load(vacantHouseRepository).count();
+        if (indexed != expected) {
+            int removed = removeDeleted();
+            searcherManager.maybeRefreshBlocking();
+            indexed = indexedCount();
+            if (indexed != Watermark.load(vacantHouseRepository).count()) {
+                log.info("빈집 검색 인덱스 건수 불일치({}건, 삭제 반영 {}건), 전체 재색인", indexed, removed);
+                reindexAll();
+                return;
+            }
+            log.info("빈집 검색 인덱스 동기화: DB 에서 삭제된 {}건 제거", removed);
+        }
+        if (reindexed > 0) {
+            log.info("빈집 검색 인덱스 동기화: {}건 재색인", reindexed);
+        }
+    }
+
+    /**
+     * 색인에는 있지만 DB 에는 없는 빈집 제거 (DB id 는 키셋으로 읽어 정렬 배열로 비교)
+     */
+    private int removeDeleted() throws IOException {
+        long[] ids = new long[REINDEX_PAGE_SIZE];
+        int size = 0;
+        long afterId = 0;
+        List<Long> chunk;
+        do {
+            chunk = vacantHouseRepository.findIdsAfter(afterId, PageRequest.of(0, REINDEX_PAGE_SIZE));
+            for (Long id : chunk) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size++] = id;
+                afterId = id;
+            }
+        } while (chunk.size() == REINDEX_PAGE_SIZE);
+
+        List<Term> stale = new ArrayList<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            Terms terms = MultiTerms.getTerms(searcher.getIndexReader(), FIELD_ID);
+            if (terms != null) {
+                TermsEnum termsEnum = terms.iterator();
+                BytesRef term;
+                while ((term = termsEnum.next()) != null) {
+                    String id = term.utf8ToString();
+                    if (Arrays.binarySearch(ids, 0, size, Long.parseLong(id)) < 0) {
+                        stale.add(new Term(FIELD_ID, id));
+                    }
+                }
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        if (!stale.isEmpty()) {
+            writer.deleteDocuments(stale.toArray(new Term[0]));
+        }
+        return stale.size();
+    }
+
+    private void scheduledSync() {
+        try {
+            syncWithDatabase();
+        } catch (Exception e) {
+            log.error("빈집 검색 인덱스 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private long indexedCount() throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private Map<String, String> readCommitData() {
+        Map<String, String> data = new HashMap<>();
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                data.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return data;
+    }
+
+    /**
+     * 빈집 색인 추가/갱신
+     */
+    public void index(VacantHouse house) {
+        try {
+            writer.updateDocument(idTerm(house.getId()), toDocument(house));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("빈집 색인 실패: {} - {}", house.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 빈집 일괄 색인 (검색기 갱신은 마지막에 한 번만, 실패는 호출 측에서 재시도)
+     */
+    public void indexAll(List<VacantHouse> houses) throws IOException {
+        for (VacantHouse house : houses) {
+            writer.updateDocument(idTerm(house.getId()), toDocument(house));
+        }
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 빈집 색인 삭제
+     */
+    public void delete(Long id) {
+        try {
+            writer.deleteDocuments(idTerm(id));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("빈집 색인 삭제 실패: {} - {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * 키워드 검색 (점수 높은 순 빈집 ID 목록)
+     */
+    public List<Long> search(String keyword, int limit) {
+        Set<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            for (Map.Entry<String, Float> field : FIELD_BOOSTS.entrySet()) {
+                query.add(new BoostQuery(termQuery(field.getKey(), term), field.getValue()),
+                        BooleanClause.Occur.SHOULD);
+            }
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query.build(), limit);
+            List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                ids.add(Long.valueOf(searcher.storedFields().document(scoreDoc.doc).get(FIELD_ID)));
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 중 오류가 발생했습니다.", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("검색기 반환 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    // 한 글자(한글/한자/가나) 검색어는 bigram 과 일치하지 않으므로 글자 단위 보조 필드에서 찾는다
+    private static Query termQuery(String field, String term) {
+        if (term.codePointCount(0, term.length()) == 1 && isCjk(term.codePointAt(0))) {
+            return new TermQuery(new Term(field + UNIGRAM_SUFFIX, term));
+        }
+        return new TermQuery(new Term(field, term));
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private Set<String> analyze(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (keyword == null || keyword.isBlank()) {
+            return terms;
+        }
+        String text = keyword.length() > MAX_QUERY_LENGTH ? keyword.substring(0, MAX_QUERY_LENGTH) : keyword;
+        try (TokenStream stream = analyzer.tokenStream(FIELD_DESCRIPTION, text)) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new IllegalStateException("검색어 분석 중 오류가 발생했습니다.", e);
+        }
+        return terms;
+    }
+
+    private Document toDocument(VacantHouse house) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(house.getId()), Field.Store.YES));
+        document.add(new LongPoint(FIELD_GENERATION, generation));
+        addText(document, FIELD_ADDRESS, house.getAddress());
+        addText(document, FIELD_REGION, house.getRegion());
+        addText(document, FIELD_DESCRIPTION, house.getDescription());
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, value, Field.Store.NO));
+            document.add(new TextField(field + UNIGRAM_SUFFIX, value, Field.Store.NO));
+        }
+    }
+
+    private Term idTerm(Long id) {
+        return new Term(FIELD_ID, String.valueOf(id));
+    }
+
+    private synchronized void commit() {
+        try {
+            // 기준 시각은 색인 내용과 같은 커밋에 남겨 재시작 시 그 이후만 다시 색인한다
+            LocalDateTime watermark = syncedUpTo;
+            if (watermark != null && !watermark.equals(committedUpTo)) {
+                writer.setLiveCommitData(Map.of(
+                        COMMIT_UPDATED_AT, watermark.toString(),
+                        COMMIT_FORMAT, FORMAT_VERSION).entrySet());
+            }
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+                committedUpTo = watermark;
+            }
+        } catch (IOException e) {
+            log.error("검색 인덱스 커밋 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 글자 단위 분석기 (CJK 글자를 한 글자씩만 남김, 정규화는 CJKAnalyzer 와 같게)
+     */
+    private static class CjkUnigramAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(source);
+            stream = new CJKBigramFilter(stream, CJKBigramFilter.HAN | CJKBigramFilter.HIRAGANA
+                    | CJKBigramFilter.KATAKANA | CJKBigramFilter.HANGUL, true);
+            stream = new TypeTokenFilter(stream, Set.of(CJKBigramFilter.SINGLE_TYPE), true);
+            return new TokenStreamComponents(source, stream);
+        }
+
+        @Override
+        protected Reader initReader(String fieldName, Reader reader) {
+            return new CJKWidthCharFilter(reader);
+        }
+    }
+
+    /**
+     * DB 기준 건수/최종 수정 시각
+     */
+    private record Watermark(long count, LocalDateTime updatedAt) {
+        static Watermark load(VacantHouseRepository repository) {
+            Object[] row = repository.findIndexWatermark().get(0);
+            return new Watermark(((Number) row[0]).longValue(), (LocalDateTime) row[1]);
+        }
+    }
+
+    /**
+     * 서비스 종료 시 정리
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        scheduler.shutdown();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+        unigramAnalyzer.close();
+    }
+}
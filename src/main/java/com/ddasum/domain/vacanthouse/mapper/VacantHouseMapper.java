@@ -0,0 +1,44 @@
+package com.ddasum.domain.vacanthouse.mapper;
+
+import com.ddasum.domain.region.dto.RegionInfo;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseResponse;
+import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+
+/**
+ * 빈집 엔티티 -> 응답 DTO 변환 (리플렉션 없이 필드 직접 복사)
+ */
+public final class VacantHouseMapper {
+
+    private VacantHouseMapper() {
+    }
+
+    public static VacantHouseResponse toResponse(VacantHouse entity) {
+        return toResponse(entity, null);
+    }
+
+    public static VacantHouseResponse toResponse(VacantHouse entity, RegionInfo regionInfo) {
+        return VacantHouseResponse.builder()
+                .id(entity.getId())
+                .address(entity.getAddress())
+                .region(entity.getRegion())
+                .regionInfo(regionInfo)
+                .latitude(entity.getLatitude())
+                .longitude(entity.getLongitude())
+                .description(entity.getDescription())
+                .price(entity.getPrice())
+                .available(entity.isAvailable())
+                .imageUrl(entity.getImageUrl())
+                .ratingCount(entity.getRatingCount())
+                .ratingAverage(entity.getRatingAverage())
+                .ratingHistogram(new int[]{
+                        entity.getRating1Count(),
+                        entity.getRating2Count(),
+                        entity.getRating3Count(),
+                        entity.getRating4Count(),
+                        entity.getRating5Count()
+                })
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,7 +1,148 @@
 package com.ddasum.domain.vacanthouse.repository;
 
+import com.ddasum.core.constants.CommonConstants;
 import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface VacantHouseRepository extends JpaRepository<VacantHouse, Long> {
-} 
\ No newline at end of file
+
+    // 빈집 행 잠금 조회 (SELECT ... FOR UPDATE) - 같은 빈집의 예약 생성/수정을 인스턴스와 무관하게 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from VacantHouse v where v.id = :id")
+    Optional<VacantHouse> findByIdForUpdate(@Param("id") Long id);
+
+    // 키셋 페이지는 첫 페이지와 커서 페이지를 나눈다
+    // (":cursor is null or v.id < :cursor" 처럼 한 쿼리로 합치면 커서 조건이 범위 탐색에 쓰이지 못한다)
+
+    // 예약 가능 기간 조회용 키셋 스캔 - 엔티티 대신 id 만 읽어 가용성 인덱스로 거른다
+    @Query("select v.id from VacantHouse v where v.available = true order by v.id desc")
+    List<Long> findAvailableIdsFirst(Pageable pageable);
+
+    @Query("select v.id from VacantHouse v where v.available = true and v.id < :cursorId order by v.id desc")
+    List<Long> findAvailableIdsBefore(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 목록 조회 조건 - 조건이 null이면 해당 필터는 무시
+    String PAGE_FILTER = "select v from VacantHouse v " +
+            "where (:region is null or v.region = :region) " +
+            "and (:available is null or v.available = :available) " +
+            "and (:minPrice is null or v.price >= :minPrice) " +
+            "and (:maxPrice is null or v.price <= :maxPrice) ";
+
+    // 커서(id) 기반 목록 조회
+    // id 는 인스턴스별 시퀀스 블록에서 채번되므로 id 내림차순은 인스턴스 간 등록 순서와 정확히 일치하지 않는다
+    @Query(PAGE_FILTER + "order by v.id desc")
+    List<VacantHouse> findFirstPage(@Param("region") String region,
+                                    @Param("available") Boolean available,
+                                    @Param("minPrice") Integer minPrice,
+                                    @Param("maxPrice") Integer maxPrice,
+                                    Pageable pageable);
+
+    @Query(PAGE_FILTER + "and v.id < :cursorId order by v.id desc")
+    List<VacantHouse> findPageBefore(@Param("region") String region,
+                                     @Param("available") Boolean available,
+                                     @Param("minPrice") Integer minPrice,
+                                     @Param("maxPrice") Integer maxPrice,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+
+    // 평점 순 커서(ratingAverage, id) 기반 목록 조회
+    @Query(PAGE_FILTER + "order by v.ratingAverage desc, v.id desc")
+    List<VacantHouse> findFirstPageByRating(@Param("region") String region,
+                                            @Param("available") Boolean available,
+                                            @Param("minPrice") Integer minPrice,
+                                            @Param("maxPrice") Integer maxPrice,
+                                            Pageable pageable);
+
+    // ratingAverage <= :cursorRating 범위로 idx_vacant_house_rating 을 탐색하고 같은 평점은 id 로 이어 간다
+    @Query(PAGE_FILTER + "and v.ratingAverage <= :cursorRating " +
+            "and (v.ratingAverage < :cursorRating or v.id < :cursorId) " +
+            "order by v.ratingAverage desc, v.id desc")
+    List<VacantHouse> findPageByRatingBefore(@Param("region") String region,
+                                             @Param("available") Boolean available,
+                                             @Param("minPrice") Integer minPrice,
+                                             @Param("maxPrice") Integer maxPrice,
+                                             @Param("cursorRating") Double cursorRating,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    // 평점 집계 증감 (addedRating/removedRating 이 0이면 해당 구간 변화 없음)
+    // 각 컬럼은 자기 자신만 참조하므로 DB별 SET 평가 순서와 무관하다
+    @Modifying
+    @Query("update VacantHouse v set " +
+           "v.ratingCount = v.ratingCount + :countDelta, " +
+           "v.ratingSum = v.ratingSum + :sumDelta, " +
+           "v.rating1Count = v.rating1Count + (case when :addedRating = 1 then 1 else 0 end) - (case when :removedRating = 1 then 1 else 0 end), " +
+           "v.rating2Count = v.rating2Count + (case when :addedRating = 2 then 1 else 0 end) - (case when :removedRating = 2 then 1 else 0 end), " +
+           "v.rating3Count = v.rating3Count + (case when :addedRating = 3 then 1 else 0 end) - (case when :removedRating = 3 then 1 else 0 end), " +
+           "v.rating4Count = v.rating4Count + (case when :addedRating = 4 then 1 else 0 end) - (case when :removedRating = 4 then 1 else 0 end), " +
+           "v.rating5Count = v.rating5Count + (case when :addedRating = 5 then 1 else 0 end) - (case when :removedRating = 5 then 1 else 0 end) " +
+           "where v.id = :id")
+    int applyRatingDelta(@Param("id") Long id,
+                         @Param("countDelta") int countDelta,
+                         @Param("sumDelta") long sumDelta,
+                         @Param("addedRating") int addedRating,
+                         @Param("removedRating") int removedRating);
+
+    // 갱신된 합계/건수로 평균 재계산 (applyRatingDelta 와 같은 트랜잭션에서 호출, 행 잠금 유지 중)
+    @Modifying
+    @Query("update VacantHouse v set v.ratingAverage = " +
+           "case when v.ratingCount = 0 then 0.0 else v.ratingSum * 1.0 / v.ratingCount end " +
+           "where v.id = :id")
+    int refreshRatingAverage(@Param("id") Long id);
+
+    // 검색 인덱스 동기화 기준 (건수, 최종 수정 시각) - 결과는 한 행
+    @Query("select count(v), max(v.updatedAt) from VacantHouse v")
+    List<Object[]> findIndexWatermark();
+
+    // 검색 인덱스 동기화용 - since 이후 수정된 빈집을 id 키셋으로 조회
+    @Query("select v from VacantHouse v where v.updatedAt >= :since and v.id > :afterId order by v.id")
+    List<VacantHouse> findUpdatedSince(@Param("since") LocalDateTime since,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    // 검색 인덱스 전체 재색인용 - id 키셋 순서로 조회
+    @Query("select v from VacantHouse v where v.id > :afterId order by v.id")
+    List<VacantHouse> findAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 인덱스 삭제 반영용 - id 만 키셋 순서로 조회
+    @Query("select v.id from VacantHouse v where v.id > :afterId order by v.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 공간 인덱스 적재용 좌표 조회 (id, latitude, longitude)
+    @Query("select v.id, v.latitude, v.longitude from VacantHouse v " +
+           "where v.latitude is not null and v.longitude is not null")
+    List<Object[]> findAllLocations();
+
+    // 공간 인덱스 동기화용 - since 이후 수정된 빈집 좌표 (id, latitude, longitude, 좌표가 지워졌으면 null)
+    @Query("select v.id, v.latitude, v.longitude from VacantHouse v " +
+           "where v.updatedAt >= :since and v.id > :afterId order by v.id")
+    List<Object[]> findLocationsUpdatedSince(@Param("since") LocalDateTime since,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    // 공간 인덱스 동기화용 - 좌표가 있는 빈집 수 (인덱스 건수와 다르면 다른 곳에서 삭제된 것)
+    @Query("select count(v) from VacantHouse v where v.latitude is not null and v.longitude is not null")
+    long countLocated();
+
+    // 내보내기용 읽기 전용 스트림 (호출 측 트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + CommonConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select v from VacantHouse v order by v.id")
+    Stream<VacantHouse> streamAll();
+}
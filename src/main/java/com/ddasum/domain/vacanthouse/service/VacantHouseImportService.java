@@ -0,0 +1,12 @@
+package com.ddasum.domain.vacanthouse.service;
+
+import com.ddasum.domain.vacanthouse.dto.VacantHouseCreateRequest;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseImportResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface VacantHouseImportService {
+    VacantHouseImportResponse importHouses(List<VacantHouseCreateRequest> requests);
+    VacantHouseImportResponse importCsv(InputStream inputStream) throws IOException;
+}
@@ -0,0 +1,265 @@
+package com.ddasum.domain.vacanthouse.service;
+
+import com.ddasum.core.logging.LogUtil;
+import com.ddasum.core.util.CsvReader;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseCreateRequest;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseImportResponse;
+import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import com.ddasum.domain.vacanthouse.index.VacantHouseGeoIndex;
+import com.ddasum.domain.vacanthouse.index.VacantHouseSearchIndex;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 빈집 대량 등록
+ * 1000건 단위 청크마다 별도 트랜잭션으로 저장하고(INSERT 는 hibernate.jdbc.batch_size 단위로 묶임),
+ * 청크가 커밋된 뒤에 위치/검색 인덱스를 한 번에 갱신한다 (실패하면 몇 번 다시 시도하고, 그래도 실패하면 인덱스 주기 동기화가 맞춘다).
+ * 검증에 실패한 행은 건너뛰고 행 번호와 사유를 결과에 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VacantHouseImportServiceImpl implements VacantHouseImportService {
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+    static final int INDEX_MAX_ATTEMPTS = 3;
+    private static final List<String> CSV_HEADER = List.of(
+            "address", "region", "latitude", "longitude", "description", "price", "available", "imageUrl");
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final VacantHouseGeoIndex vacantHouseGeoIndex;
+    private final VacantHouseSearchIndex vacantHouseSearchIndex;
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "house", allEntries = true),
+            @CacheEvict(cacheNames = "houseList", allEntries = true)
+    })
+    public VacantHouseImportResponse importHouses(List<VacantHouseCreateRequest> requests) {
+        ImportJob job = new ImportJob();
+        int row = 0;
+        for (VacantHouseCreateRequest request : requests) {
+            job.add(++row, request);
+        }
+        return job.finish();
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "house", allEntries = true),
+            @CacheEvict(cacheNames = "houseList", allEntries = true)
+    })
+    public VacantHouseImportResponse importCsv(InputStream inputStream) throws IOException {
+        ImportJob job = new ImportJob();
+        try (CsvReader reader = new CsvReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRow();
+            if (header == null || !CSV_HEADER.equals(header.stream().map(String::trim).toList())) {
+                throw new IllegalArgumentException("CSV 헤더는 " + String.join(",", CSV_HEADER) + " 이어야 합니다.");
+            }
+            int row = 0;
+            List<String> fields;
+            while ((fields = reader.readRow()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue; // 빈 줄
+                }
+                row++;
+                try {
+                    job.add(row, toRequest(fields));
+                } catch (IllegalArgumentException e) {
+                    job.fail(row, e.getMessage());
+                }
+            }
+        }
+        return job.finish();
+    }
+
+    private static VacantHouseCreateRequest toRequest(List<String> fields) {
+        if (fields.size() != CSV_HEADER.size()) {
+            throw new IllegalArgumentException("컬럼 수가 올바르지 않습니다: " + fields.size());
+        }
+        VacantHouseCreateRequest request = new VacantHouseCreateRequest();
+        request.setAddress(blankToNull(fields.get(0)));
+        request.setRegion(blankToNull(fields.get(1)));
+        request.setLatitude(parseDouble(fields.get(2), "latitude"));
+        request.setLongitude(parseDouble(fields.get(3), "longitude"));
+        request.setDescription(blankToNull(fields.get(4)));
+        try {
+            request.setPrice(Integer.parseInt(fields.get(5).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price 값이 올바르지 않습니다: " + fields.get(5));
+        }
+        request.setAvailable(Boolean.parseBoolean(fields.get(6).trim()));
+        request.setImageUrl(blankToNull(fields.get(7)));
+        return request;
+    }
+
+    private static Double parseDouble(String value, String name) {
+        if (value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * 검증 실패 사유 (정상이면 null)
+     */
+    private static String validate(VacantHouseCreateRequest request) {
+        if (request == null) {
+            return "빈 행입니다.";
+        }
+        if (request.getAddress() == null || request.getAddress().isBlank()) {
+            return "address 는 필수입니다.";
+        }
+        if (request.getRegion() == null || request.getRegion().isBlank()) {
+            return "region 은 필수입니다.";
+        }
+        if (request.getPrice() < 0) {
+            return "price 는 0 이상이어야 합니다.";
+        }
+        Double latitude = request.getLatitude();
+        Double longitude = request.getLongitude();
+        if ((latitude == null) != (longitude == null)) {
+            return "latitude 와 longitude 는 함께 입력해야 합니다.";
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            return "좌표 범위가 올바르지 않습니다.";
+        }
+        return null;
+    }
+
+    private static VacantHouse toEntity(VacantHouseCreateRequest request) {
+        return VacantHouse.builder()
+                .address(request.getAddress())
+                .region(request.getRegion())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .description(request.getDescription())
+                .price(request.getPrice())
+                .available(request.isAvailable())
+                .imageUrl(request.getImageUrl())
+                .build();
+    }
+
+    /**
+     * 한 번의 등록 요청 상태 (청크 버퍼, 집계, 오류 목록)
+     */
+    private class ImportJob {
+        private final long startedAt = System.currentTimeMillis();
+        private final List<VacantHouse> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Integer> chunkRows = new ArrayList<>(CHUNK_SIZE);
+        private final List<VacantHouseImportResponse.RowError> errors = new ArrayList<>();
+        private int totalCount;
+        private int successCount;
+        private int failureCount;
+
+        void add(int row, VacantHouseCreateRequest request) {
+            totalCount++;
+            String error = validate(request);
+            if (error != null) {
+                recordError(row, error);
+                return;
+            }
+            chunk.add(toEntity(request));
+            chunkRows.add(row);
+            if (chunk.size() >= CHUNK_SIZE) {
+                flushChunk();
+            }
+        }
+
+        void fail(int row, String message) {
+            totalCount++;
+            recordError(row, message);
+        }
+
+        VacantHouseImportResponse finish() {
+            flushChunk();
+            long elapsed = System.currentTimeMillis() - startedAt;
+            long rowsPerSecond = successCount * 1000L / Math.max(1, elapsed);
+            LogUtil.logBusiness("빈집 대량 등록 완료: 전체 {}건, 성공 {}건, 실패 {}건, {}ms ({}건/초)",
+                    totalCount, successCount, failureCount, elapsed, rowsPerSecond);
+            return VacantHouseImportResponse.builder()
+                    .totalCount(totalCount)
+                    .successCount(successCount)
+                    .failureCount(failureCount)
+                    .elapsedMillis(elapsed)
+                    .rowsPerSecond(rowsPerSecond)
+                    .errors(errors)
+                    .build();
+        }
+
+        private void flushChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<VacantHouse> houses = new ArrayList<>(chunk);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (VacantHouse house : houses) {
+                        entityManager.persist(house);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                successCount += houses.size();
+            } catch (RuntimeException e) {
+                log.error("빈집 대량 등록 청크 저장 실패: 행 {}~{} - {}",
+                        chunkRows.get(0), chunkRows.get(chunkRows.size() - 1), e.getMessage());
+                for (Integer row : chunkRows) {
+                    recordError(row, "저장 실패: " + e.getMessage());
+                }
+                return;
+            } finally {
+                chunk.clear();
+                chunkRows.clear();
+            }
+            // 커밋된 청크만 인덱스에 반영 (이미 저장된 행이므로 인덱스 실패를 행 실패로 집계하지 않는다)
+            updateIndexes(houses);
+        }
+
+        private void updateIndexes(List<VacantHouse> houses) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    for (VacantHouse house : houses) {
+                        vacantHouseGeoIndex.put(house.getId(), house.getLatitude(), house.getLongitude());
+                    }
+                    vacantHouseSearchIndex.indexAll(houses);
+                    return;
+                } catch (IOException | RuntimeException e) {
+                    if (attempt >= INDEX_MAX_ATTEMPTS) {
+                        log.error("빈집 대량 등록 인덱스 반영 실패 (주기 동기화에서 반영): {}건 - {}", houses.size(), e.getMessage());
+                        return;
+                    }
+                    log.warn("빈집 대량 등록 인덱스 반영 재시도 ({}/{}): {}", attempt, INDEX_MAX_ATTEMPTS, e.getMessage());
+                }
+            }
+        }
+
+        private void recordError(int row, String message) {
+            failureCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new VacantHouseImportResponse.RowError(row, message));
+            }
+        }
+    }
+}
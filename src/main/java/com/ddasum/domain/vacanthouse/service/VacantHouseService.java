@@ -1,9 +1,16 @@
 package com.ddasum.domain.vacanthouse.service;
 
+import com.ddasum.core.api.response.CursorPageResponse;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseCreateRequest;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseLocationResponse;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseUpdateRequest;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseResponse;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseSearchCondition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface VacantHouseService {
     VacantHouseResponse create(VacantHouseCreateRequest request);
@@ -11,4 +18,11 @@ public interface VacantHouseService {
     void delete(Long id);
     VacantHouseResponse getById(Long id);
     List<VacantHouseResponse> getAll();
+    Page<VacantHouseResponse> getAll(Pageable pageable);
+    void exportAll(Consumer<VacantHouseResponse> consumer);
+    CursorPageResponse<VacantHouseResponse> getPage(VacantHouseSearchCondition condition, String cursor, int size);
+    List<VacantHouseLocationResponse> getNearby(double latitude, double longitude, int k);
+    List<VacantHouseLocationResponse> getWithin(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, int limit);
+    List<VacantHouseResponse> search(String keyword, int size);
+    CursorPageResponse<VacantHouseResponse> getAvailableBetween(LocalDate startDate, LocalDate endDate, String cursor, int size);
 } 
\ No newline at end of file
@@ -1,56 +1,108 @@
 package com.ddasum.domain.vacanthouse.service;
 
+import com.ddasum.core.api.response.CursorPageResponse;
+import com.ddasum.core.constants.CommonConstants;
+import com.ddasum.core.util.CursorUtil;
+import com.ddasum.domain.region.index.RegionSnapshot;
+import com.ddasum.domain.reservation.index.ReservationAvailabilityIndex;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseCreateRequest;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseLocationResponse;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseUpdateRequest;
 import com.ddasum.domain.vacanthouse.dto.VacantHouseResponse;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseSearchCondition;
 import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import com.ddasum.domain.vacanthouse.mapper.VacantHouseMapper;
+import com.ddasum.domain.vacanthouse.index.VacantHouseGeoIndex;
+import com.ddasum.domain.vacanthouse.index.VacantHouseSearchIndex;
 import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.modelmapper.ModelMapper;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class VacantHouseServiceImpl implements VacantHouseService {
+    private static final String SORT_RATING = "rating";
+    // 예약 가능 기간 조회 시 한 번에 읽는 id 수와 요청 1건이 훑는 최대 id 수
+    private static final int AVAILABLE_SCAN_BATCH = 500;
+    private static final int AVAILABLE_SCAN_LIMIT = 5_000;
+
     private final VacantHouseRepository vacantHouseRepository;
-    private final ModelMapper modelMapper;
+    private final VacantHouseGeoIndex vacantHouseGeoIndex;
+    private final VacantHouseSearchIndex vacantHouseSearchIndex;
+    private final ReservationAvailabilityIndex reservationAvailabilityIndex;
+    private final RegionSnapshot regionSnapshot;
+    private final EntityManager entityManager;
 
     @Override
+    @CacheEvict(cacheNames = "houseList", allEntries = true)
     public VacantHouseResponse create(VacantHouseCreateRequest request) {
         VacantHouse entity = VacantHouse.builder()
                 .address(request.getAddress())
                 .region(request.getRegion())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .description(request.getDescription())
                 .price(request.getPrice())
                 .available(request.isAvailable())
                 .imageUrl(request.getImageUrl())
                 .build();
         VacantHouse saved = vacantHouseRepository.save(entity);
+        vacantHouseGeoIndex.put(saved.getId(), saved.getLatitude(), saved.getLongitude());
+        vacantHouseSearchIndex.index(saved);
         return toResponse(saved);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "house", key = "#id"),
+            @CacheEvict(cacheNames = "houseList", allEntries = true)
+    })
     public VacantHouseResponse update(Long id, VacantHouseUpdateRequest request) {
         VacantHouse entity = vacantHouseRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("빈집을 찾을 수 없습니다."));
         entity.setAddress(request.getAddress());
         entity.setRegion(request.getRegion());
+        entity.setLatitude(request.getLatitude());
+        entity.setLongitude(request.getLongitude());
         entity.setDescription(request.getDescription());
         entity.setPrice(request.getPrice());
         entity.setAvailable(request.isAvailable());
         entity.setImageUrl(request.getImageUrl());
         VacantHouse updated = vacantHouseRepository.save(entity);
+        vacantHouseGeoIndex.put(updated.getId(), updated.getLatitude(), updated.getLongitude());
+        vacantHouseSearchIndex.index(updated);
         return toResponse(updated);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "house", key = "#id"),
+            @CacheEvict(cacheNames = "houseList", allEntries = true)
+    })
     public void delete(Long id) {
         vacantHouseRepository.deleteById(id);
+        vacantHouseGeoIndex.remove(id);
+        vacantHouseSearchIndex.delete(id);
     }
 
     @Override
+    @Cacheable(cacheNames = "house", key = "#id")
     public VacantHouseResponse getById(Long id) {
         VacantHouse entity = vacantHouseRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("빈집을 찾을 수 없습니다."));
@@ -58,13 +110,193 @@ public class VacantHouseServiceImpl implements VacantHouseService {
     }
 
     @Override
+    @Cacheable(cacheNames = "houseList", key = "'all'")
     public List<VacantHouseResponse> getAll() {
         return vacantHouseRepository.findAll().stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<VacantHouseResponse> getAll(Pageable pageable) {
+        return vacantHouseRepository.findAll(pageable).map(this::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<VacantHouseResponse> consumer) {
+        try (Stream<VacantHouse> rows = vacantHouseRepository.streamAll()) {
+            rows.forEach(house -> {
+                consumer.accept(toResponse(house));
+                // 영속성 컨텍스트에 쌓이지 않도록 출력 후 바로 분리
+                entityManager.detach(house);
+            });
+        }
+    }
+
+    @Override
+    public CursorPageResponse<VacantHouseResponse> getPage(VacantHouseSearchCondition condition, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, CommonConstants.MAX_PAGE_SIZE));
+        boolean byRating = SORT_RATING.equals(condition.getSort());
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<VacantHouse> rows;
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        if (byRating) {
+            String[] cursorValues = CursorUtil.decode(cursor, 2);
+            rows = cursorValues == null
+                    ? vacantHouseRepository.findFirstPageByRating(
+                            condition.getRegion(), condition.getAvailable(),
+                            condition.getMinPrice(), condition.getMaxPrice(), pageRequest)
+                    : vacantHouseRepository.findPageByRatingBefore(
+                            condition.getRegion(), condition.getAvailable(),
+                            condition.getMinPrice(), condition.getMaxPrice(),
+                            parseCursorRating(cursorValues[0]), parseCursorId(cursorValues[1]), pageRequest);
+        } else {
+            String[] cursorValues = CursorUtil.decode(cursor, 1);
+            rows = cursorValues == null
+                    ? vacantHouseRepository.findFirstPage(
+                            condition.getRegion(), condition.getAvailable(),
+                            condition.getMinPrice(), condition.getMaxPrice(), pageRequest)
+                    : vacantHouseRepository.findPageBefore(
+                            condition.getRegion(), condition.getAvailable(),
+                            condition.getMinPrice(), condition.getMaxPrice(),
+                            parseCursorId(cursorValues[0]), pageRequest);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<VacantHouse> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (!page.isEmpty()) {
+            VacantHouse last = page.get(page.size() - 1);
+            nextCursor = byRating
+                    ? CursorUtil.encode(last.getRatingAverage(), last.getId())
+                    : CursorUtil.encode(last.getId());
+        }
+        return CursorPageResponse.of(
+                page.stream().map(this::toResponse).collect(Collectors.toList()),
+                hasNext,
+                nextCursor);
+    }
+
+    @Override
+    public List<VacantHouseLocationResponse> getNearby(double latitude, double longitude, int k) {
+        validateCoordinate(latitude, longitude);
+        return vacantHouseGeoIndex.findNearest(latitude, longitude, Math.max(1, Math.min(k, CommonConstants.MAX_PAGE_SIZE)));
+    }
+
+    @Override
+    public List<VacantHouseLocationResponse> getWithin(double minLatitude, double minLongitude,
+                                                       double maxLatitude, double maxLongitude, int limit) {
+        validateCoordinate(minLatitude, minLongitude);
+        validateCoordinate(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("잘못된 조회 범위입니다.");
+        }
+        return vacantHouseGeoIndex.findWithin(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                Math.max(1, Math.min(limit, CommonConstants.MAX_PAGE_SIZE)));
+    }
+
+    @Override
+    public List<VacantHouseResponse> search(String keyword, int size) {
+        List<Long> ids = vacantHouseSearchIndex.search(keyword, Math.max(1, Math.min(size, CommonConstants.MAX_PAGE_SIZE)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // 검색 점수 순서를 유지하도록 ID 순서대로 재정렬
+        Map<Long, VacantHouse> houses = vacantHouseRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(VacantHouse::getId, Function.identity()));
+        return ids.stream()
+                .map(houses::get)
+                .filter(house -> house != null)
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CursorPageResponse<VacantHouseResponse> getAvailableBetween(LocalDate startDate, LocalDate endDate,
+                                                                      String cursor, int size) {
+        if (startDate == null || endDate == null || !endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, CommonConstants.MAX_PAGE_SIZE));
+        String[] cursorValues = CursorUtil.decode(cursor, 1);
+        Long cursorId = cursorValues != null ? parseCursorId(cursorValues[0]) : null;
+
+        // id 키셋으로 조금씩 읽어 가용성 인덱스로 거르고, 한 페이지(+1건)가 차거나 스캔 상한에 닿으면 멈춘다
+        List<Long> matched = new ArrayList<>(pageSize + 1);
+        int scanned = 0;
+        boolean exhausted = false;
+        while (matched.size() <= pageSize && scanned < AVAILABLE_SCAN_LIMIT) {
+            PageRequest batch = PageRequest.of(0, AVAILABLE_SCAN_BATCH);
+            List<Long> ids = cursorId == null
+                    ? vacantHouseRepository.findAvailableIdsFirst(batch)
+                    : vacantHouseRepository.findAvailableIdsBefore(cursorId, batch);
+            for (Long id : ids) {
+                cursorId = id;
+                scanned++;
+                if (reservationAvailabilityIndex.isAvailable(id, startDate, endDate)) {
+                    matched.add(id);
+                    if (matched.size() > pageSize) {
+                        break;
+                    }
+                }
+            }
+            if (ids.size() < AVAILABLE_SCAN_BATCH) {
+                exhausted = matched.size() <= pageSize;
+                break;
+            }
+        }
+
+        boolean hasNext;
+        String nextCursor;
+        List<Long> pageIds;
+        if (matched.size() > pageSize) {
+            pageIds = matched.subList(0, pageSize);
+            hasNext = true;
+            nextCursor = CursorUtil.encode(pageIds.get(pageSize - 1));
+        } else {
+            // 스캔 상한에 닿아 페이지가 덜 찼으면 마지막으로 훑은 id 부터 이어서 조회하게 한다
+            pageIds = matched;
+            hasNext = !exhausted;
+            nextCursor = hasNext ? CursorUtil.encode(cursorId) : null;
+        }
+        Map<Long, VacantHouse> houses = pageIds.isEmpty() ? Map.of() : vacantHouseRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(VacantHouse::getId, Function.identity()));
+        return CursorPageResponse.of(
+                pageIds.stream()
+                        .map(houses::get)
+                        .filter(house -> house != null)
+                        .map(this::toResponse)
+                        .collect(Collectors.toList()),
+                hasNext,
+                nextCursor);
+    }
+
+    private void validateCoordinate(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("잘못된 좌표입니다.");
+        }
+    }
+
+    private Double parseCursorRating(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private Long parseCursorId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    // 지역 정보는 메모리 스냅샷에서 붙이므로 목록 조회에도 추가 쿼리가 없다
     private VacantHouseResponse toResponse(VacantHouse entity) {
-        return modelMapper.map(entity, VacantHouseResponse.class);
+        return VacantHouseMapper.toResponse(entity, regionSnapshot.get(entity.getRegion()));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,98 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Java 마이그레이션 공용 도우미
+ * 이름을 알 수 없는 인덱스(Hibernate 가 자동 생성한 제약 등)를 메타데이터로 찾아 처리할 때 사용한다.
+ * MariaDB 와 테스트용 H2(MariaDB 모드)의 문법 차이만 여기서 흡수한다.
+ */
+class MigrationSupport {
+
+    private final Connection connection;
+    private final boolean mariaDb;
+
+    MigrationSupport(Connection connection) throws SQLException {
+        this.connection = connection;
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        this.mariaDb = product.contains("mariadb") || product.contains("mysql");
+    }
+
+    void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    Long queryForLong(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            if (!rs.next()) {
+                return null;
+            }
+            long value = rs.getLong(1);
+            return rs.wasNull() ? null : value;
+        }
+    }
+
+    /**
+     * 지정한 컬럼 하나만으로 이루어진 유니크 인덱스 이름 목록 (기본 키 제외)
+     */
+    List<String> uniqueIndexesOn(String table, String column) throws SQLException {
+        List<String> names = new ArrayList<>();
+        indexColumns(table, true).forEach((name, columns) -> {
+            if (columns.size() == 1 && columns.get(0).equalsIgnoreCase(column) && !isPrimaryKey(name)) {
+                names.add(name);
+            }
+        });
+        return names;
+    }
+
+    boolean indexExists(String table, String index) throws SQLException {
+        return indexColumns(table, false).keySet().stream().anyMatch(index::equalsIgnoreCase);
+    }
+
+    void dropIndex(String table, String index) throws SQLException {
+        execute(mariaDb ? "DROP INDEX " + index + " ON " + table : "DROP INDEX " + index);
+    }
+
+    private Map<String, List<String>> indexColumns(String table, boolean uniqueOnly) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+                identifier(metaData, table), uniqueOnly, false)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (name != null && column != null) {
+                    indexes.computeIfAbsent(name, k -> new ArrayList<>()).add(column);
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private static boolean isPrimaryKey(String indexName) {
+        String name = indexName.toUpperCase(Locale.ROOT);
+        return name.equals("PRIMARY") || name.startsWith("PRIMARY_KEY");
+    }
+
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return name.toUpperCase(Locale.ROOT);
+        }
+        if (metaData.storesLowerCaseIdentifiers()) {
+            return name.toLowerCase(Locale.ROOT);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,27 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 결제 테이블의 기준선 시절 인덱스 정리
+ * - reservation_id 유니크 제약 (@OneToOne 시절, 이름은 Hibernate 가 생성): 실패한 결제 후 재결제를 막으므로 일반 인덱스로 교체.
+ *   MariaDB 는 FK 가 쓰는 인덱스를 지울 수 없으므로 일반 인덱스를 먼저 만든다.
+ * - idx_payment_imp_uid (ddl-auto=update 시절 일반 인덱스): V4 의 유니크 인덱스와 중복이라 삭제
+ */
+public class V3__ReplaceLegacyPaymentIndexes extends BaseJavaMigration {
+
+    private static final String TABLE = "tbl_payment";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        MigrationSupport db = new MigrationSupport(context.getConnection());
+        db.execute("CREATE INDEX IF NOT EXISTS idx_payment_reservation ON " + TABLE + " (reservation_id)");
+        for (String index : db.uniqueIndexesOn(TABLE, "reservation_id")) {
+            db.dropIndex(TABLE, index);
+        }
+        if (db.indexExists(TABLE, "idx_payment_imp_uid")) {
+            db.dropIndex(TABLE, "idx_payment_imp_uid");
+        }
+    }
+}
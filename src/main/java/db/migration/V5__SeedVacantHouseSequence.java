@@ -0,0 +1,26 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * vacant_house_seq 를 기존 빈집 ID 보다 뒤에서 시작하도록 조정
+ * 기준선까지 ID 는 AUTO_INCREMENT 로 채번되었고, V2 는 시퀀스를 1 부터 만든다.
+ * Hibernate pooled 최적화는 시퀀스 값 v 를 받으면 (v - 49) ~ v 를 쓰므로 max(id) + 할당 크기부터 시작해야 겹치지 않는다.
+ * (SETVAL/RESTART 값에 서브쿼리를 쓸 수 없어 Java 마이그레이션으로 계산한다)
+ */
+public class V5__SeedVacantHouseSequence extends BaseJavaMigration {
+
+    // VacantHouse 의 @SequenceGenerator allocationSize 와 같아야 한다
+    private static final long ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        MigrationSupport db = new MigrationSupport(context.getConnection());
+        Long maxId = db.queryForLong("SELECT MAX(id) FROM tbl_vacant_house");
+        if (maxId == null) {
+            return;
+        }
+        db.execute("ALTER SEQUENCE vacant_house_seq RESTART WITH " + (maxId + ALLOCATION_SIZE));
+    }
+}
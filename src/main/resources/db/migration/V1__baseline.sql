@@ -0,0 +1,113 @@
+-- 기준선: Flyway 도입 이전(ddl-auto=update) 엔티티로 만들어진 스키마
+-- 기존 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용하므로,
+-- 이후 변경은 반드시 새 버전으로 추가한다.
+
+CREATE TABLE tbl_user (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    username       VARCHAR(50)  NOT NULL,
+    password       VARCHAR(255) NOT NULL,
+    email          VARCHAR(100) NOT NULL,
+    email_verified BOOLEAN      NOT NULL,
+    role           VARCHAR(20)  NOT NULL,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX uk_user_username ON tbl_user (username);
+CREATE UNIQUE INDEX uk_user_email ON tbl_user (email);
+
+CREATE TABLE tbl_vacant_house (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    address     VARCHAR(255),
+    region      VARCHAR(255),
+    description VARCHAR(255),
+    price       INT     NOT NULL,
+    available   BOOLEAN NOT NULL,
+    image_url   VARCHAR(255),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tbl_reservation (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT,
+    vacant_house_id BIGINT,
+    start_date      DATE,
+    end_date        DATE,
+    people_count    INT    NOT NULL,
+    status          VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reservation_user FOREIGN KEY (user_id) REFERENCES tbl_user (id),
+    CONSTRAINT fk_reservation_vacant_house FOREIGN KEY (vacant_house_id) REFERENCES tbl_vacant_house (id)
+);
+
+CREATE TABLE tbl_review (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT,
+    vacant_house_id BIGINT,
+    rating          INT    NOT NULL,
+    content         VARCHAR(255),
+    image_url       VARCHAR(255),
+    created_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_review_user FOREIGN KEY (user_id) REFERENCES tbl_user (id),
+    CONSTRAINT fk_review_vacant_house FOREIGN KEY (vacant_house_id) REFERENCES tbl_vacant_house (id)
+);
+
+-- 결제는 예약과 1:1 (@OneToOne 이 reservation_id 에 유니크 제약을 만든다, 기존 DB 에서는 Hibernate 가 붙인 이름)
+CREATE TABLE tbl_payment (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    reservation_id BIGINT,
+    payment_method VARCHAR(255),
+    amount         INT    NOT NULL,
+    payment_date   DATETIME(6),
+    imp_uid        VARCHAR(255),
+    merchant_uid   VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_payment_reservation FOREIGN KEY (reservation_id) REFERENCES tbl_reservation (id)
+);
+CREATE UNIQUE INDEX uk_payment_reservation ON tbl_payment (reservation_id);
+
+CREATE TABLE tbl_region (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(255),
+    population INT    NOT NULL,
+    transport  VARCHAR(255),
+    infra      VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tbl_region_currency (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT,
+    amount      INT    NOT NULL,
+    type        VARCHAR(255),
+    description VARCHAR(255),
+    date        DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_region_currency_user FOREIGN KEY (user_id) REFERENCES tbl_user (id)
+);
+
+CREATE TABLE tbl_board (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(255),
+    content    VARCHAR(255),
+    type       VARCHAR(255),
+    user_id    BIGINT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_board_user FOREIGN KEY (user_id) REFERENCES tbl_user (id)
+);
+
+CREATE TABLE tbl_comment (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    board_id   BIGINT,
+    user_id    BIGINT,
+    content    VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_board FOREIGN KEY (board_id) REFERENCES tbl_board (id),
+    CONSTRAINT fk_comment_user FOREIGN KEY (user_id) REFERENCES tbl_user (id)
+);
@@ -0,0 +1,36 @@
+-- 기준선 이후 엔티티 변경분
+-- IF NOT EXISTS: ddl-auto=update 로 이미 일부가 반영된 개발 DB 에도 그대로 적용되도록
+
+-- 빈집: 좌표, 평점 집계, 목록/정렬 인덱스, 대량 등록용 ID 시퀀스
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS latitude DOUBLE;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS longitude DOUBLE;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS rating_count INT NOT NULL DEFAULT 0;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS rating1count INT NOT NULL DEFAULT 0;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS rating2count INT NOT NULL DEFAULT 0;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS rating3count INT NOT NULL DEFAULT 0;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS rating4count INT NOT NULL DEFAULT 0;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS rating5count INT NOT NULL DEFAULT 0;
+ALTER TABLE tbl_vacant_house ADD COLUMN IF NOT EXISTS rating_average DOUBLE NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS idx_vacant_house_region_available ON tbl_vacant_house (region, available, id);
+CREATE INDEX IF NOT EXISTS idx_vacant_house_available_price ON tbl_vacant_house (available, price);
+CREATE INDEX IF NOT EXISTS idx_vacant_house_rating ON tbl_vacant_house (rating_average, id);
+CREATE SEQUENCE IF NOT EXISTS vacant_house_seq START WITH 1 INCREMENT BY 50;
+
+-- 지역: 이름 기준 upsert 키 (기준선 시점에는 적재 경로가 없어 비어 있다)
+ALTER TABLE tbl_region MODIFY COLUMN name VARCHAR(100) NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_region_name ON tbl_region (name);
+
+-- 결제: 비동기 검증 상태
+-- 기준선까지는 Iamport 검증을 마친 뒤에만 저장했으므로 기존 행은 PAID, 주문번호가 없던 행은 임의 값으로 채운다
+ALTER TABLE tbl_payment ADD COLUMN IF NOT EXISTS status VARCHAR(20);
+ALTER TABLE tbl_payment ADD COLUMN IF NOT EXISTS failure_reason VARCHAR(255);
+ALTER TABLE tbl_payment ADD COLUMN IF NOT EXISTS requested_at DATETIME(6);
+UPDATE tbl_payment SET status = 'PAID' WHERE status IS NULL;
+UPDATE tbl_payment SET requested_at = payment_date WHERE requested_at IS NULL;
+UPDATE tbl_payment SET merchant_uid = CONCAT('legacy-', id) WHERE merchant_uid IS NULL;
+-- 네이티브 ENUM 대신 VARCHAR 로 고정 (상태 추가 시 컬럼 변경이 필요 없도록)
+ALTER TABLE tbl_payment MODIFY COLUMN status VARCHAR(20) NOT NULL;
+ALTER TABLE tbl_payment MODIFY COLUMN merchant_uid VARCHAR(100) NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_payment_merchant_uid ON tbl_payment (merchant_uid);
+CREATE INDEX IF NOT EXISTS idx_payment_status ON tbl_payment (status, id);
@@ -0,0 +1,12 @@
+-- 결제 검증/취소, 예약/리뷰 목록 조회용 인덱스
+
+-- Iamport 결제 고유번호 (findByImpUid)
+-- 결제 접수 시 impUid 를 함께 저장하므로 impUid 하나에 결제 한 건만 허용한다 (같은 impUid 로 다른 주문번호 접수 차단)
+-- 기준선 이전 행은 impUid 가 NULL 이라 충돌하지 않는다
+CREATE UNIQUE INDEX IF NOT EXISTS uk_payment_imp_uid ON tbl_payment (imp_uid);
+
+-- 빈집별 예약 목록 (vacant_house_id = ? order by start_date)
+CREATE INDEX IF NOT EXISTS idx_reservation_house_start ON tbl_reservation (vacant_house_id, start_date);
+
+-- 빈집별 리뷰 목록 (vacant_house_id = ? order by id desc)
+CREATE INDEX IF NOT EXISTS idx_review_house ON tbl_review (vacant_house_id, id);
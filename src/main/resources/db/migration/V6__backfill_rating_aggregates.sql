@@ -0,0 +1,13 @@
+-- 빈집 평점 집계 채우기
+-- 집계는 리뷰 생성/수정/삭제 시 증분으로만 갱신되므로, 집계 도입 전 리뷰를 여기서 한 번 반영한다.
+-- ReviewServiceImpl 의 증분 규칙과 같게 건수/합계는 모든 리뷰, 분포는 1~5 점만 센다.
+-- (MariaDB 는 SET 의 앞 컬럼 갱신값을 뒤에서 보므로 평균도 리뷰 테이블에서 직접 계산한다)
+UPDATE tbl_vacant_house h SET
+    rating_count   = (SELECT COUNT(*) FROM tbl_review r WHERE r.vacant_house_id = h.id),
+    rating_sum     = (SELECT COALESCE(SUM(r.rating), 0) FROM tbl_review r WHERE r.vacant_house_id = h.id),
+    rating1count   = (SELECT COUNT(*) FROM tbl_review r WHERE r.vacant_house_id = h.id AND r.rating = 1),
+    rating2count   = (SELECT COUNT(*) FROM tbl_review r WHERE r.vacant_house_id = h.id AND r.rating = 2),
+    rating3count   = (SELECT COUNT(*) FROM tbl_review r WHERE r.vacant_house_id = h.id AND r.rating = 3),
+    rating4count   = (SELECT COUNT(*) FROM tbl_review r WHERE r.vacant_house_id = h.id AND r.rating = 4),
+    rating5count   = (SELECT COUNT(*) FROM tbl_review r WHERE r.vacant_house_id = h.id AND r.rating = 5),
+    rating_average = (SELECT COALESCE(AVG(r.rating * 1.0), 0) FROM tbl_review r WHERE r.vacant_house_id = h.id);
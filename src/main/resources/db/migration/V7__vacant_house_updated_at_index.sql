@@ -0,0 +1,2 @@
+-- 검색 인덱스 동기화용 (updated_at >= 마지막 색인 시각 인 빈집만 다시 색인)
+CREATE INDEX IF NOT EXISTS idx_vacant_house_updated_at ON tbl_vacant_house (updated_at);
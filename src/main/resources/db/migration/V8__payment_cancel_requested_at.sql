@@ -0,0 +1,4 @@
+-- 결제 취소 선점 시각 (CANCELLING 에 오래 머문 결제를 주기 점검에서 찾는다)
+ALTER TABLE tbl_payment ADD COLUMN IF NOT EXISTS cancel_requested_at DATETIME(6);
+-- 이미 CANCELLING 인 결제는 지금부터 점검 대상 시간을 센다
+UPDATE tbl_payment SET cancel_requested_at = NOW(6) WHERE status = 'CANCELLING' AND cancel_requested_at IS NULL;
@@ -0,0 +1,6 @@
+-- 대사 기간 조건을 requested_at 하나로 걸 수 있도록 비어 있는 접수 시각을 채운다
+-- (V2 이전 행은 검증 완료 시각, 그마저 없으면 이 시점)
+UPDATE tbl_payment SET requested_at = payment_date WHERE requested_at IS NULL AND payment_date IS NOT NULL;
+UPDATE tbl_payment SET requested_at = NOW(6) WHERE requested_at IS NULL;
+ALTER TABLE tbl_payment MODIFY COLUMN requested_at DATETIME(6) NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_payment_requested_at ON tbl_payment (requested_at, id);
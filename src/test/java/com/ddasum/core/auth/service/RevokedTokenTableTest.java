@@ -0,0 +1,75 @@
+package com.ddasum.core.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 폐기 토큰 테이블의 조회, 만료 정리 순서, 만료시각 갱신, 확장 후 조회 확인
+ */
+class RevokedTokenTableTest {
+
+    private final RevokedTokenTable table = new RevokedTokenTable();
+
+    @Test
+    void containsUntilExpiry() {
+        table.add(1L, 2L, 1_000L);
+
+        assertThat(table.contains(1L, 2L, 999L)).isTrue();
+        assertThat(table.contains(1L, 2L, 1_000L)).isFalse();
+        // 상위/하위 64비트가 모두 같아야 같은 ID
+        assertThat(table.contains(2L, 1L, 0L)).isFalse();
+        assertThat(table.contains(1L, 3L, 0L)).isFalse();
+    }
+
+    @Test
+    void removesExpiredOldestFirstWithinLimit() {
+        table.add(1L, 1L, 300L);
+        table.add(2L, 2L, 100L);
+        table.add(3L, 3L, 200L);
+        table.add(4L, 4L, 900L);
+
+        assertThat(table.removeExpired(500L, 2)).isEqualTo(2);
+        assertThat(table.contains(2L, 2L, 0L)).isFalse();
+        assertThat(table.contains(3L, 3L, 0L)).isFalse();
+        assertThat(table.contains(1L, 1L, 0L)).isTrue();
+
+        assertThat(table.removeExpired(500L, 10)).isEqualTo(1);
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.contains(4L, 4L, 0L)).isTrue();
+    }
+
+    @Test
+    void extendedExpiryOutlivesStaleHeapEntry() {
+        table.add(1L, 1L, 100L);
+        table.add(1L, 1L, 500L);
+        // 더 이른 만료시각으로는 줄어들지 않는다
+        table.add(1L, 1L, 200L);
+
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.removeExpired(300L, 10)).isZero();
+        assertThat(table.contains(1L, 1L, 300L)).isTrue();
+        assertThat(table.removeExpired(500L, 10)).isEqualTo(1);
+        assertThat(table.size()).isZero();
+    }
+
+    @Test
+    void keepsEntriesAcrossResizeAndSlotReuse() {
+        int count = 5_000;
+        for (int i = 1; i <= count; i++) {
+            table.add(i, -i, i);
+        }
+        assertThat(table.size()).isEqualTo(count);
+
+        assertThat(table.removeExpired(count / 2, Integer.MAX_VALUE)).isEqualTo(count / 2);
+        for (int i = 1; i <= count; i++) {
+            table.add(i + count, i, 10_000L + i);
+        }
+
+        assertThat(table.size()).isEqualTo(count + count / 2);
+        for (int i = 1; i <= count; i++) {
+            assertThat(table.contains(i, -i, 0L)).isEqualTo(i > count / 2);
+            assertThat(table.contains(i + count, i, 0L)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ddasum.core.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 장애 시 블랙리스트가 폐기 토큰을 통과시키지 않는지(fail-closed) 확인
+ */
+class TokenBlacklistServiceTest {
+
+    private static final String TOKEN_ID = "0123456789abcdef0123456789abcdef";
+    private static final String OTHER_TOKEN_ID = "fedcba9876543210fedcba9876543210";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final TokenBlacklistService service =
+            new TokenBlacklistService(redisTemplate, mock(RedisMessageListenerContainer.class));
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void failedRedisWriteFailsTheRevocation() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+
+        assertThatThrownBy(() -> service.addToBlacklist(TOKEN_ID, System.currentTimeMillis() + 60_000))
+                .isInstanceOf(IllegalStateException.class);
+        // 이 인스턴스에서는 바로 막는다
+        assertThat(service.isBlacklisted(TOKEN_ID)).isTrue();
+    }
+
+    @Test
+    void unbuiltFilterFallsBackToRedisAndFailsClosed() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new RedisConnectionFailureException("down"));
+        service.rebuildBloomFilter();
+
+        // 필터를 채우지 못했으므로 빈 필터로 "폐기되지 않음" 을 판정하지 않고 Redis 를 본다
+        when(valueOperations.get("auth:blacklist:" + TOKEN_ID)).thenReturn(String.valueOf(System.currentTimeMillis() + 60_000));
+        assertThat(service.isBlacklisted(TOKEN_ID)).isTrue();
+
+        when(valueOperations.get("auth:blacklist:" + OTHER_TOKEN_ID)).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(service.isBlacklisted(OTHER_TOKEN_ID)).isTrue();
+    }
+
+    @Test
+    void builtFilterAnswersMissesLocally() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(0);
+        service.rebuildBloomFilter();
+
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(service.isBlacklisted(OTHER_TOKEN_ID)).isFalse();
+    }
+}
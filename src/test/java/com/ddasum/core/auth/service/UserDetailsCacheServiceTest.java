@@ -0,0 +1,63 @@
+package com.ddasum.core.auth.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 정보 캐시 적중과 인스턴스 간 무효화 전파 확인
+ */
+class UserDetailsCacheServiceTest {
+
+    private static final String CHANNEL = "auth:user-details:invalidation";
+
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final UserDetailsCacheService service = new UserDetailsCacheService(
+            userDetailsService, redisTemplate, mock(RedisMessageListenerContainer.class));
+
+    @Test
+    void loadsOnceAndPublishesEviction() {
+        when(userDetailsService.loadUserByUsername("user1"))
+                .thenReturn(User.withUsername("user1").password("pw").roles("USER").build());
+
+        service.loadUserByUsername("user1");
+        service.loadUserByUsername("user1");
+        verify(userDetailsService, times(1)).loadUserByUsername("user1");
+
+        service.evict("user1", null);
+
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("|user1"));
+        service.loadUserByUsername("user1");
+        verify(userDetailsService, times(2)).loadUserByUsername("user1");
+    }
+
+    @Test
+    void evictsOnMessageFromAnotherInstance() {
+        when(userDetailsService.loadUserByUsername(anyString()))
+                .thenAnswer(invocation -> User.withUsername(invocation.getArgument(0)).password("pw").roles("USER").build());
+        service.loadUserByUsername("user1");
+        assertThat(service.size()).isEqualTo(1);
+
+        service.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "other-node|user1".getBytes(StandardCharsets.UTF_8)), null);
+
+        service.loadUserByUsername("user1");
+        verify(userDetailsService, times(2)).loadUserByUsername("user1");
+    }
+}
@@ -0,0 +1,58 @@
+package com.ddasum.core.cache;
+
+import com.ddasum.core.service.CacheServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheServiceCacheManagerTest {
+
+    private final CacheServiceImpl cacheService = new CacheServiceImpl(1000, false);
+    private final CacheServiceCacheManager cacheManager =
+            new CacheServiceCacheManager(cacheService, new MockEnvironment(), Duration.ofMinutes(10));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void clearHidesPreviousEntriesWithoutTouchingOtherCaches() {
+        Cache houseList = cacheManager.getCache("houseList");
+        Cache house = cacheManager.getCache("house");
+        houseList.put("page:0", "old");
+        house.put(1L, "house-1");
+
+        houseList.clear();
+
+        assertThat(houseList.get("page:0")).isNull();
+        assertThat(house.get(1L).get()).isEqualTo("house-1");
+        houseList.put("page:0", "new");
+        assertThat(houseList.get("page:0").get()).isEqualTo("new");
+    }
+
+    @Test
+    void evictionInsideTransactionIsAppliedAfterCommit() {
+        Cache house = cacheManager.getCache("house");
+        house.put(1L, "old");
+
+        TransactionSynchronizationManager.initSynchronization();
+        house.evict(1L);
+        cacheManager.getCache("houseList").clear();
+        assertThat(house.get(1L).get()).isEqualTo("old");
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertThat(house.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ddasum.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬(L1) TTL 이 1초 미만이어도 0 으로 잘리지 않고, 로컬 최대 TTL 로 제한되는지 확인
+ * L2 조회 중 무효화된 값은 L1 에 남지 않고, 허용하지 않은 타입 정보는 역직렬화하지 않는지 확인
+ */
+class NearCacheServiceTest {
+
+    private final CacheServiceImpl localCache = new CacheServiceImpl(100, false);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final NearCacheService nearCache;
+
+    NearCacheServiceTest() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        nearCache = new NearCacheService(localCache, redisTemplate, mock(RedisMessageListenerContainer.class),
+                new ObjectMapper(), 600, 1);
+    }
+
+    @Test
+    void keepsSubSecondTtlLocally() throws Exception {
+        nearCache.put("short", "value", 300, TimeUnit.MILLISECONDS);
+        nearCache.put("expiring", "value", 10, TimeUnit.SECONDS);
+        nearCache.expire("expiring", 300, TimeUnit.MILLISECONDS);
+
+        assertThat(localCache.get("short", String.class)).contains("value");
+        assertThat(localCache.get("expiring", String.class)).contains("value");
+
+        Thread.sleep(600);
+        assertThat(localCache.get("short", String.class)).isEmpty();
+        assertThat(localCache.get("expiring", String.class)).isEmpty();
+    }
+
+    @Test
+    void capsLocalTtlAtConfiguredMaximum() throws Exception {
+        nearCache.put("long", "value", 10, TimeUnit.MINUTES);
+        assertThat(localCache.get("long", String.class)).contains("value");
+
+        // 로컬 최대 TTL 1초
+        Thread.sleep(1_300);
+        assertThat(localCache.get("long", String.class)).isEmpty();
+    }
+
+    @Test
+    void skipsLocalFillWhenInvalidatedDuringRemoteRead() {
+        // L2 에서 이전 값을 읽는 사이 다른 인스턴스가 같은 키를 바꾼 경우
+        when(valueOperations.get("cache:stale")).thenAnswer(invocation -> {
+            nearCache.onMessage(invalidation("other-node|K|stale"), null);
+            return "\"old\"";
+        });
+
+        assertThat(nearCache.get("stale", String.class)).contains("old");
+        assertThat(localCache.get("stale", String.class)).isEmpty();
+
+        // 무효화 없이 읽은 값은 L1 에 채운다
+        when(valueOperations.get("cache:fresh")).thenReturn("\"new\"");
+        assertThat(nearCache.get("fresh", String.class)).contains("new");
+        assertThat(nearCache.get("fresh", String.class)).contains("new");
+        verify(valueOperations, times(1)).get("cache:fresh");
+    }
+
+    @Test
+    void rejectsTypesOutsideCachedDtos() {
+        when(valueOperations.get("cache:list")).thenReturn("[\"java.util.ArrayList\",[\"a\",\"b\"]]");
+        assertThat(nearCache.get("list", Object.class)).contains(List.of("a", "b"));
+
+        when(valueOperations.get("cache:gadget"))
+                .thenReturn("[\"java.util.concurrent.ConcurrentHashMap\",{}]");
+        assertThat(nearCache.get("gadget", Object.class)).isEmpty();
+    }
+
+    private static DefaultMessage invalidation(String body) {
+        return new DefaultMessage("cache:invalidation".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
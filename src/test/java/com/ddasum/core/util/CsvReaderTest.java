@@ -0,0 +1,112 @@
+package com.ddasum.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 따옴표 필드, 줄바꿈 종류, BOM, 버퍼 경계에 걸친 필드/줄바꿈 처리 확인
+ */
+class CsvReaderTest {
+
+    @Test
+    void parsesQuotedFields() throws IOException {
+        List<List<String>> rows = readAll(new StringReader(
+                "a,\"b,c\",\"say \"\"hi\"\"\"\n\"multi\nline\",,\"\"\n"));
+
+        assertThat(rows).containsExactly(
+                List.of("a", "b,c", "say \"hi\""),
+                List.of("multi\nline", "", ""));
+    }
+
+    @Test
+    void handlesCrLfLoneCrAndMissingTrailingNewline() throws IOException {
+        List<List<String>> rows = readAll(new StringReader("a,b\r\nc,d\re,f\n\ng,h"));
+
+        assertThat(rows).containsExactly(
+                List.of("a", "b"),
+                List.of("c", "d"),
+                List.of("e", "f"),
+                List.of(""),
+                List.of("g", "h"));
+    }
+
+    @Test
+    void stripsLeadingBomOnly() throws IOException {
+        List<List<String>> rows = readAll(new StringReader("\uFEFFname,value\n\uFEFFx,1\n"));
+
+        assertThat(rows).containsExactly(
+                List.of("name", "value"),
+                List.of("\uFEFFx", "1"));
+    }
+
+    @Test
+    void readsFieldsAndLineBreaksAcrossBufferBoundaries() throws IOException {
+        // 8192자 버퍼 끝에 CR, 다음 버퍼 처음에 LF 가 오도록 구성
+        String longField = "x".repeat(8190);
+        String body = "\"" + longField + "\r" + "\n" + "y".repeat(10_000) + "\"";
+        String csv = longField + ",\r\n" + body + ",z\r\n";
+
+        assertThat(readAll(new StringReader(csv))).containsExactly(
+                List.of(longField, ""),
+                List.of(longField + "\r\n" + "y".repeat(10_000), "z"));
+    }
+
+    @Test
+    void readsCorrectlyWhenUnderlyingReaderReturnsOneCharAtATime() throws IOException {
+        String csv = "\uFEFFa,\"b\"\"c\"\r\nd,e\rf\n";
+
+        assertThat(readAll(new OneCharReader(csv))).containsExactly(
+                List.of("a", "b\"c"),
+                List.of("d", "e"),
+                List.of("f"));
+    }
+
+    @Test
+    void rejectsUnclosedQuote() {
+        assertThatThrownBy(() -> readAll(new StringReader("a,\"bc\n")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("따옴표");
+    }
+
+    private static List<List<String>> readAll(Reader reader) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (CsvReader csvReader = new CsvReader(reader)) {
+            List<String> row;
+            while ((row = csvReader.readRow()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static class OneCharReader extends Reader {
+
+        private final String text;
+        private int index;
+
+        OneCharReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (index >= text.length()) {
+                return -1;
+            }
+            buffer[offset] = text.charAt(index++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
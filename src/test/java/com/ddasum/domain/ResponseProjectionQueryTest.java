@@ -0,0 +1,150 @@
+package com.ddasum.domain;
+
+import com.ddasum.domain.payment.dto.PaymentResponse;
+import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.repository.PaymentRepository;
+import com.ddasum.domain.reservation.dto.ReservationResponse;
+import com.ddasum.domain.reservation.entity.Reservation;
+import com.ddasum.domain.reservation.repository.ReservationRepository;
+import com.ddasum.domain.review.dto.ReviewResponse;
+import com.ddasum.domain.review.entity.Review;
+import com.ddasum.domain.review.repository.ReviewRepository;
+import com.ddasum.domain.user.entity.User;
+import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회용 DTO 프로젝션 쿼리가 건수와 관계없이 SQL 한 번으로 끝나는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ResponseProjectionQueryTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Statistics statistics;
+    private User user;
+    private VacantHouse house;
+    private Reservation firstReservation;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = em.persist(User.builder()
+                .username("tester")
+                .password("password")
+                .email("tester@ddasum.com")
+                .role("USER")
+                .build());
+        house = em.persist(VacantHouse.builder()
+                .address("강원도 평창군")
+                .region("강원")
+                .price(100000)
+                .available(true)
+                .build());
+        for (int i = 0; i < ROWS; i++) {
+            Reservation reservation = em.persist(Reservation.builder()
+                    .user(user)
+                    .vacantHouse(house)
+                    .startDate(LocalDate.of(2025, 1, 1).plusDays(i * 3L))
+                    .endDate(LocalDate.of(2025, 1, 3).plusDays(i * 3L))
+                    .peopleCount(2)
+                    .status(Reservation.STATUS_IN_PROGRESS)
+                    .build());
+            if (firstReservation == null) {
+                firstReservation = reservation;
+            }
+            em.persist(Review.builder()
+                    .user(user)
+                    .vacantHouse(house)
+                    .rating(5)
+                    .content("리뷰 " + i)
+                    .build());
+            em.persist(Payment.builder()
+                    .reservation(reservation)
+                    .paymentMethod("card")
+                    .amount(100000)
+                    .paymentDate(LocalDateTime.now())
+                    .impUid("imp_" + i)
+                    .merchantUid("merchant_" + i)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void reservationListsUseSingleStatement() {
+        List<ReservationResponse> all = countStatements(reservationRepository::findAllResponses);
+        assertThat(all).hasSize(ROWS);
+        assertThat(all.get(0).getUserId()).isEqualTo(user.getId());
+        assertThat(all.get(0).getVacantHouseId()).isEqualTo(house.getId());
+
+        assertThat(countStatements(() -> reservationRepository.findResponsesByUserId(user.getId()))).hasSize(ROWS);
+        assertThat(countStatements(() -> reservationRepository.findResponsesByVacantHouseId(house.getId()))).hasSize(ROWS);
+    }
+
+    @Test
+    void reviewListsUseSingleStatement() {
+        List<ReviewResponse> all = countStatements(reviewRepository::findAllResponses);
+        assertThat(all).hasSize(ROWS);
+        assertThat(all.get(0).getUserId()).isEqualTo(user.getId());
+        assertThat(all.get(0).getVacantHouseId()).isEqualTo(house.getId());
+
+        assertThat(countStatements(() -> reviewRepository.findResponsesByUserId(user.getId()))).hasSize(ROWS);
+        assertThat(countStatements(() -> reviewRepository.findResponsesByVacantHouseId(house.getId()))).hasSize(ROWS);
+    }
+
+    @Test
+    void paymentListsUseSingleStatement() {
+        List<PaymentResponse> all = countStatements(paymentRepository::findAllResponses);
+        assertThat(all).hasSize(ROWS);
+        assertThat(all).allSatisfy(payment -> assertThat(payment.getReservationId()).isNotNull());
+
+        List<PaymentResponse> byReservation = countStatements(
+                () -> paymentRepository.findResponsesByReservationId(firstReservation.getId()));
+        assertThat(byReservation).hasSize(1);
+        assertThat(byReservation.get(0).getReservationId()).isEqualTo(firstReservation.getId());
+    }
+
+    private <T> List<T> countStatements(Supplier<List<T>> query) {
+        statistics.clear();
+        List<T> result = query.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        return result;
+    }
+}
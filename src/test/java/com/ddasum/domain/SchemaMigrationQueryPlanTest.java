@@ -0,0 +1,68 @@
+package com.ddasum.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마가 엔티티 매핑과 일치하고(ddl-auto=validate),
+ * 자주 쓰는 단건/목록 조회가 전체 스캔 대신 인덱스를 타는지 실행 계획으로 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaMigrationQueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void paymentLookupsUseUniqueIndexes() {
+        assertUsesIndex("select * from tbl_payment where imp_uid = 'imp_1'", "uk_payment_imp_uid");
+        assertUsesIndex("select * from tbl_payment where merchant_uid = 'order_1'", "uk_payment_merchant_uid");
+    }
+
+    @Test
+    void reconciliationRangeUsesRequestedAtIndex() {
+        assertUsesIndex("select * from tbl_payment where requested_at >= timestamp '2026-01-01 00:00:00'",
+                "idx_payment_requested_at");
+    }
+
+    @Test
+    void userLookupsUseUniqueIndexes() {
+        assertUsesIndex("select * from tbl_user where email = 'a@b.c'", "uk_user_email");
+        assertUsesIndex("select * from tbl_user where username = 'user1'", "uk_user_username");
+    }
+
+    @Test
+    void listByHouseUsesCompositeIndexes() {
+        assertUsesIndex("select * from tbl_reservation where vacant_house_id = 1 order by id",
+                "idx_reservation_house_start");
+        assertUsesIndex("select * from tbl_reservation where vacant_house_id = 1 and start_date < date '2026-01-10'",
+                "idx_reservation_house_start");
+        assertUsesIndex("select * from tbl_review where vacant_house_id = 1 order by id",
+                "idx_review_house");
+    }
+
+    @Test
+    void migrationsApplyInOrder() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "select \"version\" from \"flyway_schema_history\" where \"success\" = true order by \"installed_rank\"",
+                String.class);
+        assertThat(versions).containsExactly("1", "2", "3", "4", "5", "6", "7", "8", "9");
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class)).toLowerCase();
+        assertThat(plan).as(sql).contains(indexName).doesNotContain("tablescan");
+    }
+}
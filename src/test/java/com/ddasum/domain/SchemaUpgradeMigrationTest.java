@@ -0,0 +1,99 @@
+package com.ddasum.domain;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 기준선(V1) 스키마에 데이터가 있는 DB 를 최신 버전으로 올렸을 때 기존 행이 새 스키마에 맞게 채워지는지 확인
+ */
+class SchemaUpgradeMigrationTest {
+
+    private String url;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        url = "jdbc:h2:mem:upgrade-" + UUID.randomUUID() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1";
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        migrate("1");
+    }
+
+    @Test
+    void legacyPaymentsAreMarkedPaidAndReservationAllowsRetries() {
+        long reservationId = insertReservation();
+        jdbcTemplate.update("insert into tbl_payment (reservation_id, payment_method, amount, payment_date) " +
+                "values (?, 'card', 10000, current_timestamp)", reservationId);
+
+        migrate(null);
+
+        Map<String, Object> legacy = jdbcTemplate.queryForMap("select * from tbl_payment");
+        assertThat(legacy.get("STATUS")).isEqualTo("PAID");
+        assertThat(legacy.get("MERCHANT_UID")).isEqualTo("legacy-" + legacy.get("ID"));
+        assertThat(legacy.get("REQUESTED_AT")).isNotNull();
+
+        // @OneToOne 시절 유니크 제약이 없어져 같은 예약으로 재결제 가능
+        jdbcTemplate.update("insert into tbl_payment (reservation_id, amount, imp_uid, merchant_uid, status) " +
+                "values (?, 10000, 'imp_1', 'order_1', 'PENDING')", reservationId);
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into tbl_payment (reservation_id, amount, imp_uid, merchant_uid, status) " +
+                "values (?, 10000, 'imp_1', 'order_2', 'PENDING')", reservationId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void houseSequenceStartsAboveExistingIds() {
+        jdbcTemplate.update("insert into tbl_vacant_house (id, address, price, available) values (120, 'a', 1000, true)");
+
+        migrate(null);
+
+        // pooled 최적화는 시퀀스 값 v 에서 (v - 49) ~ v 를 쓴다
+        long next = jdbcTemplate.queryForObject("select next value for vacant_house_seq", Long.class);
+        assertThat(next - 49).isGreaterThan(120);
+    }
+
+    @Test
+    void ratingAggregatesAreBackfilledFromExistingReviews() {
+        jdbcTemplate.update("insert into tbl_vacant_house (id, address, price, available) values (1, 'a', 1000, true)");
+        jdbcTemplate.update("insert into tbl_vacant_house (id, address, price, available) values (2, 'b', 1000, true)");
+        for (int rating : new int[]{5, 4, 4}) {
+            jdbcTemplate.update("insert into tbl_review (vacant_house_id, rating) values (1, ?)", rating);
+        }
+
+        migrate(null);
+
+        Map<String, Object> reviewed = jdbcTemplate.queryForMap("select * from tbl_vacant_house where id = 1");
+        assertThat(((Number) reviewed.get("RATING_COUNT")).intValue()).isEqualTo(3);
+        assertThat(((Number) reviewed.get("RATING_SUM")).longValue()).isEqualTo(13);
+        assertThat(((Number) reviewed.get("RATING4COUNT")).intValue()).isEqualTo(2);
+        assertThat(((Number) reviewed.get("RATING5COUNT")).intValue()).isEqualTo(1);
+        assertThat(((Number) reviewed.get("RATING_AVERAGE")).doubleValue()).isCloseTo(13 / 3.0, within(1e-9));
+        Map<String, Object> unreviewed = jdbcTemplate.queryForMap("select * from tbl_vacant_house where id = 2");
+        assertThat(((Number) unreviewed.get("RATING_COUNT")).intValue()).isZero();
+        assertThat(((Number) unreviewed.get("RATING_AVERAGE")).doubleValue()).isZero();
+    }
+
+    private long insertReservation() {
+        jdbcTemplate.update("insert into tbl_reservation (people_count) values (2)");
+        return jdbcTemplate.queryForObject("select max(id) from tbl_reservation", Long.class);
+    }
+
+    private void migrate(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ddasum.domain.payment.service;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서킷 브레이커 차단, 4xx 제외, 엔드포인트별 지연시간 기록 확인
+ */
+class IamportApiExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IamportApiExecutor executor = new IamportApiExecutor(meterRegistry,
+            CircuitBreakerConfig.custom()
+                    .slidingWindowSize(4)
+                    .minimumNumberOfCalls(4)
+                    .failureRateThreshold(50)
+                    .waitDurationInOpenState(Duration.ofMinutes(1))
+                    .ignoreExceptions(HttpClientErrorException.class)
+                    .build(),
+            BulkheadConfig.ofDefaults());
+
+    @Test
+    void opensCircuitAfterFailuresAndRejectsCalls() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> executor.execute(IamportApiExecutor.ENDPOINT_PAYMENT, () -> {
+                throw new ResourceAccessException("timeout");
+            })).isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(executor.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> executor.execute(IamportApiExecutor.ENDPOINT_PAYMENT, () -> "ok"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(timer(IamportApiExecutor.ENDPOINT_PAYMENT, "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> executor.execute(IamportApiExecutor.ENDPOINT_CANCEL, () -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(executor.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(executor.execute(IamportApiExecutor.ENDPOINT_CANCEL, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void recordsLatencyPerEndpoint() {
+        executor.execute(IamportApiExecutor.ENDPOINT_GET_TOKEN, () -> "token");
+        executor.execute(IamportApiExecutor.ENDPOINT_GET_TOKEN, () -> "token");
+        executor.execute(IamportApiExecutor.ENDPOINT_PAYMENT, () -> "payment");
+
+        assertThat(timer(IamportApiExecutor.ENDPOINT_GET_TOKEN, "success").count()).isEqualTo(2);
+        assertThat(timer(IamportApiExecutor.ENDPOINT_PAYMENT, "success").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String endpoint, String outcome) {
+        return meterRegistry.get("iamport.api").tag("endpoint", endpoint).tag("outcome", outcome).timer();
+    }
+}
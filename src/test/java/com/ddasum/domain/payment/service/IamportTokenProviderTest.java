@@ -0,0 +1,141 @@
+package com.ddasum.domain.payment.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 서버로 토큰 캐시, 동시 요청 단일화, 사전 재발급 확인
+ */
+class IamportTokenProviderTest {
+
+    private HttpServer server;
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private volatile long ttlSeconds = 1800;
+    private volatile long responseDelayMillis;
+    private final List<IamportTokenProvider> providers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/users/getToken", exchange -> {
+            int n = tokenRequests.incrementAndGet();
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            long now = System.currentTimeMillis() / 1000;
+            byte[] body = ("{\"code\":0,\"message\":null,\"response\":{\"access_token\":\"token-" + n
+                    + "\",\"now\":" + now + ",\"expired_at\":" + (now + ttlSeconds) + "}}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        providers.forEach(IamportTokenProvider::shutdown);
+        server.stop(0);
+    }
+
+    private IamportTokenProvider newProvider(long refreshAheadSeconds) {
+        IamportApiExecutor apiExecutor = new IamportApiExecutor(new SimpleMeterRegistry(),
+                CircuitBreakerConfig.ofDefaults(), BulkheadConfig.ofDefaults());
+        IamportTokenProvider provider = new IamportTokenProvider(new RestTemplate(), apiExecutor,
+                "http://127.0.0.1:" + server.getAddress().getPort(), "key", "secret", refreshAheadSeconds);
+        providers.add(provider);
+        return provider;
+    }
+
+    @Test
+    void cachesTokenUntilExpiry() {
+        IamportTokenProvider provider = newProvider(300);
+
+        String first = provider.getAccessToken();
+        for (int i = 0; i < 100; i++) {
+            assertThat(provider.getAccessToken()).isEqualTo(first);
+        }
+        assertThat(tokenRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCallersShareOneTokenRequest() throws Exception {
+        responseDelayMillis = 200;
+        IamportTokenProvider provider = newProvider(300);
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return provider.getAccessToken();
+                }));
+            }
+            start.countDown();
+            Set<String> tokens = ConcurrentHashMap.newKeySet();
+            for (Future<String> result : results) {
+                tokens.add(result.get(10, TimeUnit.SECONDS));
+            }
+            assertThat(tokens).containsExactly("token-1");
+            assertThat(tokenRequests.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void refreshesInBackgroundBeforeExpiry() throws Exception {
+        ttlSeconds = 4;
+        IamportTokenProvider provider = newProvider(3);
+
+        assertThat(provider.getAccessToken()).isEqualTo("token-1");
+        // 유효시간 4초, 3초 전 재발급 -> 약 1초 뒤 백그라운드 재발급
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (tokenRequests.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(tokenRequests.get()).isGreaterThanOrEqualTo(2);
+        assertThat(provider.getAccessToken()).isNotEqualTo("token-1");
+    }
+
+    @Test
+    void invalidatedTokenIsReissued() {
+        IamportTokenProvider provider = newProvider(300);
+
+        String first = provider.getAccessToken();
+        provider.invalidate(first);
+
+        assertThat(provider.getAccessToken()).isEqualTo("token-2");
+        assertThat(tokenRequests.get()).isEqualTo(2);
+    }
+}
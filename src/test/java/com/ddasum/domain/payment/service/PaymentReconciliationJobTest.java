@@ -0,0 +1,234 @@
+package com.ddasum.domain.payment.service;
+
+import com.ddasum.domain.payment.dto.PaymentReconciliationResponse;
+import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.entity.PaymentStatus;
+import com.ddasum.domain.payment.repository.PaymentRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 가짜 Iamport 서버로 결제 대사 결과 분류, 보고서, 동시 호출 제한 확인
+ */
+class PaymentReconciliationJobTest {
+
+    private static final int MAX_IN_FLIGHT = 3;
+
+    // imp_uid -> (status, amount) / 목록에 없으면 404, "imp_error" 는 500
+    private static final Map<String, Object[]> GATEWAY = Map.of(
+            "imp_1", new Object[]{"paid", 1000},
+            "imp_2", new Object[]{"paid", 2000},
+            "imp_3", new Object[]{"paid", 1000},
+            "imp_4", new Object[]{"paid", 1000},
+            "imp_7", new Object[]{"failed", 1000},
+            "imp_8", new Object[]{"ready", 1000});
+
+    @TempDir
+    Path reportDir;
+
+    private HttpServer server;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final PaymentVerificationWorker verificationWorker = mock(PaymentVerificationWorker.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private IamportTokenProvider tokenProvider;
+    private PaymentReconciliationJob job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/users/getToken", exchange -> {
+            long now = System.currentTimeMillis() / 1000;
+            respond(exchange, 200, "{\"code\":0,\"response\":{\"access_token\":\"token\",\"now\":" + now
+                    + ",\"expired_at\":" + (now + 1800) + "}}");
+        });
+        server.createContext("/payments/", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxObservedInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(50);
+                String impUid = exchange.getRequestURI().getPath().substring("/payments/".length());
+                Object[] payment = GATEWAY.get(impUid);
+                if ("imp_error".equals(impUid)) {
+                    respond(exchange, 500, "{\"code\":-1,\"message\":\"error\"}");
+                } else if (payment == null) {
+                    respond(exchange, 404, "{\"code\":1,\"message\":\"not found\",\"response\":null}");
+                } else {
+                    respond(exchange, 200, "{\"code\":0,\"response\":{\"imp_uid\":\"" + impUid + "\",\"status\":\""
+                            + payment[0] + "\",\"amount\":" + payment[1] + "}}");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        RestTemplate restTemplate = new RestTemplate();
+        IamportApiExecutor apiExecutor = new IamportApiExecutor(meterRegistry,
+                CircuitBreakerConfig.ofDefaults(), BulkheadConfig.ofDefaults());
+        tokenProvider = new IamportTokenProvider(restTemplate, apiExecutor, baseUrl, "key", "secret", 300);
+        IamportService iamportService = new IamportService(restTemplate, tokenProvider, apiExecutor, baseUrl);
+        job = new PaymentReconciliationJob(paymentRepository, iamportService, verificationWorker, meterRegistry,
+                redisTemplate, 30, 2, MAX_IN_FLIGHT, 30, reportDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+        tokenProvider.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void classifiesPaymentsAndWritesReport() throws Exception {
+        // 청크 크기 2 -> id 키셋으로 세 번 조회 후 빈 청크에서 종료
+        chunk(0L, payment(1, "imp_1", PaymentStatus.PAID, 1000), payment(2, "imp_2", PaymentStatus.PAID, 1000));
+        chunk(2L, payment(3, "imp_3", PaymentStatus.CANCELLED, 1000), payment(4, "imp_4", PaymentStatus.PENDING, 1000));
+        chunk(4L, payment(5, "imp_missing", PaymentStatus.PAID, 1000), payment(6, "imp_error", PaymentStatus.PAID, 1000));
+        chunk(6L, payment(7, "imp_7", PaymentStatus.PENDING, 1000), payment(8, "imp_8", PaymentStatus.PENDING, 1000));
+        chunk(8L, payment(9, "imp_1", PaymentStatus.CANCELLING, 1000));
+        chunk(9L);
+
+        PaymentReconciliationResponse result = job.run();
+
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getCheckedCount()).isEqualTo(9);
+        assertThat(result.getMatchedCount()).isEqualTo(1);
+        assertThat(result.getMismatchCount()).isEqualTo(7);
+        assertThat(result.getErrorCount()).isEqualTo(1);
+
+        List<String> lines = Files.readAllLines(Path.of(result.getReportFile()));
+        assertThat(lines).hasSize(1 + 8);
+        assertThat(lines).anyMatch(line -> line.startsWith("2,") && line.contains(",AMOUNT,"));
+        assertThat(lines).anyMatch(line -> line.startsWith("3,") && line.contains(",STATUS,"));
+        assertThat(lines).anyMatch(line -> line.startsWith("4,") && line.contains(",STALE_PENDING,"));
+        assertThat(lines).anyMatch(line -> line.startsWith("5,") && line.contains(",NOT_FOUND,"));
+        assertThat(lines).anyMatch(line -> line.startsWith("6,") && line.contains(",ERROR,"));
+        assertThat(lines).anyMatch(line -> line.startsWith("7,") && line.contains(",UNPAID_PENDING,failed,"));
+        assertThat(lines).anyMatch(line -> line.startsWith("8,") && line.contains(",UNPAID_PENDING,ready,"));
+        assertThat(lines).anyMatch(line -> line.startsWith("9,") && line.contains(",CANCELLING,paid,"));
+
+        // 결제가 완료되지 않은 PENDING 도 검증 작업에 넘겨 FAILED 로 확정되게 한다
+        verify(verificationWorker).submit(4L);
+        verify(verificationWorker).submit(7L);
+        verify(verificationWorker).submit(8L);
+        verify(verificationWorker, never()).submit(1L);
+        assertThat(meterRegistry.get("payment.reconciliation.checked").tag("result", "mismatch").counter().count())
+                .isEqualTo(7);
+    }
+
+    @Test
+    void scheduledRunSkipsWhenAnotherInstanceHoldsLock() {
+        when(valueOperations.setIfAbsent(eq("lock:payment-reconciliation"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        job.scheduledRun();
+
+        verifyNoInteractions(paymentRepository);
+        assertThat(job.getLastResult().getStatus()).isEqualTo("NONE");
+    }
+
+    @Test
+    void scheduledRunProceedsWhenLockAcquired() {
+        when(valueOperations.setIfAbsent(eq("lock:payment-reconciliation"), anyString(), eq(Duration.ofMinutes(30))))
+                .thenReturn(true);
+        chunk(0L);
+
+        job.scheduledRun();
+
+        assertThat(job.getLastResult().getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void manualRunUsesTheSameLockAsScheduledRun() {
+        when(valueOperations.setIfAbsent(eq("lock:payment-reconciliation"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        assertThatThrownBy(() -> job.trigger()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> job.run()).isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(paymentRepository);
+        assertThat(job.getLastResult().getStatus()).isEqualTo("NONE");
+    }
+
+    @Test
+    void boundsConcurrentGatewayCalls() {
+        Payment[] payments = new Payment[20];
+        for (int i = 0; i < payments.length; i++) {
+            payments[i] = payment(i + 1, "imp_1", PaymentStatus.PAID, 1000);
+        }
+        when(paymentRepository.findReconciliationChunk(any(), any(), any(), any()))
+                .thenReturn(List.of(payments).subList(0, 2), List.of(payments).subList(2, 20), List.of());
+        PaymentReconciliationResponse result = job.run();
+
+        assertThat(result.getMatchedCount()).isEqualTo(20);
+        assertThat(maxObservedInFlight.get()).isLessThanOrEqualTo(MAX_IN_FLIGHT);
+    }
+
+    private void chunk(Long afterId, Payment... payments) {
+        when(paymentRepository.findReconciliationChunk(eq(afterId), any(), any(), any())).thenReturn(List.of(payments));
+    }
+
+    private static Payment payment(long id, String impUid, PaymentStatus status, int amount) {
+        return Payment.builder()
+                .id(id)
+                .impUid(impUid)
+                .merchantUid("merchant_" + id)
+                .status(status)
+                .amount(amount)
+                .build();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ddasum.domain.payment.service;
+
+import com.ddasum.domain.payment.dto.PaymentRequest;
+import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.repository.PaymentRepository;
+import com.ddasum.domain.reservation.entity.Reservation;
+import com.ddasum.domain.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentServiceImplTest {
+
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final PaymentVerificationWorker verificationWorker = mock(PaymentVerificationWorker.class);
+    private final PaymentServiceImpl paymentService = new PaymentServiceImpl(
+            paymentRepository, reservationRepository, mock(IamportService.class), verificationWorker);
+
+    @Test
+    void rejectsImpUidAlreadyAcceptedUnderAnotherMerchantUid() {
+        when(paymentRepository.findByImpUid("imp_1")).thenReturn(Payment.builder().id(1L).impUid("imp_1").merchantUid("order_1").build());
+
+        assertThatThrownBy(() -> paymentService.create(request("imp_1", "order_2")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 다른 결제 정보로 접수된");
+        verify(paymentRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void mapsConcurrentImpUidConflictToBadRequest() {
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(Reservation.builder().id(1L).build()));
+        // 사전 확인 시점에는 없다가 INSERT 직전에 다른 요청이 먼저 저장
+        when(paymentRepository.findByImpUid("imp_1"))
+                .thenReturn(null)
+                .thenReturn(Payment.builder().id(1L).impUid("imp_1").merchantUid("order_1").build());
+        when(paymentRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_payment_imp_uid"));
+
+        assertThatThrownBy(() -> paymentService.create(request("imp_1", "order_2")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 다른 결제 정보로 접수된");
+        verify(verificationWorker, never()).submit(any());
+    }
+
+    private static PaymentRequest request(String impUid, String merchantUid) {
+        PaymentRequest request = new PaymentRequest();
+        request.setReservationId(1L);
+        request.setAmount(1000);
+        request.setImpUid(impUid);
+        request.setMerchantUid(merchantUid);
+        return request;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ddasum.domain.payment.service;
+
+import com.ddasum.domain.payment.entity.Payment;
+import com.ddasum.domain.payment.entity.PaymentStatus;
+import com.ddasum.domain.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentVerificationWorkerTest {
+
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final IamportService iamportService = mock(IamportService.class);
+    private final PaymentVerificationWorker worker =
+            new PaymentVerificationWorker(paymentRepository, iamportService, mock(CacheManager.class), 2, 60);
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void sweepResubmitsStalePendingPayments() {
+        // 재시작 등으로 메모리 대기열에서 사라진 PENDING 결제
+        when(paymentRepository.findStalePendingIds(eq(0L), any(), any())).thenReturn(List.of(5L));
+        when(paymentRepository.findById(5L)).thenReturn(Optional.of(Payment.builder()
+                .id(5L).impUid("imp_5").merchantUid("order_5").amount(1000).status(PaymentStatus.PENDING).build()));
+        when(iamportService.verifyPayment("imp_5"))
+                .thenReturn(Map.of("status", "paid", "amount", 1000, "merchant_uid", "order_5"));
+
+        worker.sweepStalePending();
+
+        verify(paymentRepository, timeout(2000)).markPaid(eq(5L), any());
+    }
+
+    @Test
+    void sweepFinalizesPaymentsTheGatewayDidNotComplete() {
+        when(paymentRepository.findStalePendingIds(eq(0L), any(), any())).thenReturn(List.of(6L));
+        when(paymentRepository.findById(6L)).thenReturn(Optional.of(Payment.builder()
+                .id(6L).impUid("imp_6").merchantUid("order_6").amount(1000).status(PaymentStatus.PENDING).build()));
+        when(iamportService.verifyPayment("imp_6")).thenReturn(Map.of("status", "failed", "amount", 1000));
+
+        worker.sweepStalePending();
+
+        verify(paymentRepository, timeout(2000)).updateStatus(anyLong(), eq(PaymentStatus.PENDING), eq(PaymentStatus.FAILED), any());
+    }
+
+    @Test
+    void sweepFinalizesStaleCancellingFromGatewayStatus() {
+        // 취소 호출 뒤 결과를 기록하지 못한 결제: 7 은 Iamport 에서 취소됨, 8 은 취소가 반영되지 않음
+        when(paymentRepository.findStaleCancellingIds(eq(0L), any(), any())).thenReturn(List.of(7L, 8L));
+        when(paymentRepository.findById(7L)).thenReturn(Optional.of(Payment.builder()
+                .id(7L).impUid("imp_7").merchantUid("order_7").amount(1000).status(PaymentStatus.CANCELLING).build()));
+        when(paymentRepository.findById(8L)).thenReturn(Optional.of(Payment.builder()
+                .id(8L).impUid("imp_8").merchantUid("order_8").amount(1000).status(PaymentStatus.CANCELLING).build()));
+        when(iamportService.verifyPayment("imp_7")).thenReturn(Map.of("status", "cancelled", "amount", 1000));
+        when(iamportService.verifyPayment("imp_8")).thenReturn(Map.of("status", "paid", "amount", 1000));
+
+        worker.sweepStaleCancelling();
+
+        verify(paymentRepository).updateStatus(eq(7L), eq(PaymentStatus.CANCELLING), eq(PaymentStatus.CANCELLED), any());
+        verify(paymentRepository).updateStatus(eq(8L), eq(PaymentStatus.CANCELLING), eq(PaymentStatus.PAID), any());
+    }
+}
@@ -0,0 +1,177 @@
+package com.ddasum.domain.region.service;
+
+import com.ddasum.core.exception.BusinessException;
+import com.ddasum.domain.region.dto.RegionIngestionJobResponse;
+import com.ddasum.domain.region.index.RegionSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 지역 데이터 적재 파이프라인의 배압, 종료 처리, 저장 실패 처리 확인
+ */
+class RegionIngestionServiceImplTest {
+
+    private static final String HEADER = "name,population,transport,infra\n";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final RegionSnapshot regionSnapshot = mock(RegionSnapshot.class);
+    private final RegionIngestionServiceImpl service =
+            new RegionIngestionServiceImpl(jdbcTemplate, regionSnapshot, mock(CacheManager.class), 10_000_000);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void parserWaitsWhileWriterIsBlocked() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        whenBatchUpdate(batch -> {
+            release.await();
+            return new int[0][];
+        });
+        int rows = 30 * RegionIngestionServiceImpl.BATCH_SIZE;
+
+        String jobId = service.start(csv(rows)).getJobId();
+
+        // 쓰기 1배치 + 큐 QUEUE_CAPACITY 배치 + 파싱 중인 1배치 이상은 읽지 않아야 한다
+        long limit = (RegionIngestionServiceImpl.QUEUE_CAPACITY + 2L) * RegionIngestionServiceImpl.BATCH_SIZE;
+        long previous = -1;
+        long readCount = service.getJob(jobId).getReadCount();
+        while (readCount != previous) {
+            previous = readCount;
+            Thread.sleep(200);
+            readCount = service.getJob(jobId).getReadCount();
+        }
+        assertThat(readCount).isGreaterThan(0).isLessThanOrEqualTo(limit);
+
+        release.countDown();
+        RegionIngestionJobResponse result = awaitFinished(jobId);
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getWrittenCount()).isEqualTo(rows);
+    }
+
+    @Test
+    void completesAtEndOfStreamAndReleasesJobSlot() throws Exception {
+        whenBatchUpdate(batch -> new int[0][]);
+        String body = HEADER + "서울,9500000,지하철,병원\n\n잘못된행\n부산,\"3,300,000\",,\n";
+
+        RegionIngestionJobResponse result = awaitFinished(service.start(stream(body)).getJobId());
+
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getReadCount()).isEqualTo(2);
+        assertThat(result.getWrittenCount()).isEqualTo(2);
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        assertThat(result.getBytesRead()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        verify(regionSnapshot).publishChange();
+        assertThat(awaitFinished(startWhenIdle(HEADER)).getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void writeFailureFailsJobWithoutBlockingParser() throws Exception {
+        whenBatchUpdate(batch -> {
+            throw new DataAccessResourceFailureException("db down");
+        });
+
+        RegionIngestionJobResponse result = awaitFinished(
+                service.start(csv(20 * RegionIngestionServiceImpl.BATCH_SIZE)).getJobId());
+
+        assertThat(result.getStatus()).isEqualTo("FAILED");
+        assertThat(result.getMessage()).contains("저장 실패");
+        assertThat(result.getWrittenCount()).isZero();
+        verify(regionSnapshot, never()).publishChange();
+        // 남은 배치는 버려지고 작업 슬롯이 풀린다
+        assertThat(startWhenIdle(HEADER)).isNotNull();
+    }
+
+    @Test
+    void rejectsBadHeaderAndOversizedBody() throws Exception {
+        RegionIngestionJobResponse badHeader = awaitFinished(service.start(stream("a,b\n1,2\n")).getJobId());
+        assertThat(badHeader.getStatus()).isEqualTo("FAILED");
+        assertThat(badHeader.getMessage()).contains("CSV 헤더");
+
+        RegionIngestionServiceImpl small =
+                new RegionIngestionServiceImpl(jdbcTemplate, regionSnapshot, mock(CacheManager.class), 10);
+        try {
+            assertThatThrownBy(() -> small.start(stream(HEADER)))
+                    .isInstanceOf(BusinessException.class);
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void whenBatchUpdate(BatchAnswer answer) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> answer.apply(invocation.getArgument(1)));
+    }
+
+    private RegionIngestionJobResponse awaitFinished(String jobId) throws InterruptedException {
+        return await(jobId, job -> job.getFinishedAt() != null);
+    }
+
+    private RegionIngestionJobResponse await(String jobId, Predicate<RegionIngestionJobResponse> condition)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        RegionIngestionJobResponse job = service.getJob(jobId);
+        while (!condition.test(job)) {
+            assertThat(System.nanoTime()).as("적재 작업 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(20);
+            job = service.getJob(jobId);
+        }
+        return job;
+    }
+
+    // 이전 작업의 종료 처리(슬롯 해제)가 끝날 때까지 재시도
+    private String startWhenIdle(String body) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            try {
+                return service.start(stream(body)).getJobId();
+            } catch (IllegalStateException e) {
+                assertThat(System.nanoTime()).as("작업 슬롯 해제 대기 시간 초과").isLessThan(deadline);
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    private static InputStream csv(int rows) {
+        StringBuilder body = new StringBuilder(HEADER);
+        for (int i = 0; i < rows; i++) {
+            body.append("region").append(i).append(',').append(i).append(",bus,school\n");
+        }
+        return stream(body.toString());
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @FunctionalInterface
+    private interface BatchAnswer {
+        int[][] apply(Collection<?> batch) throws Exception;
+    }
+}
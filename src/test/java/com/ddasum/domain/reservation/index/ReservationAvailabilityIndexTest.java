@@ -0,0 +1,103 @@
+package com.ddasum.domain.reservation.index;
+
+import com.ddasum.domain.reservation.entity.Reservation;
+import com.ddasum.domain.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 반열린 구간 충돌 검사, 수정 시 자기 예약 제외, 빈집 단위 DB 재적재 확인
+ */
+class ReservationAvailabilityIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 1);
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final ReservationAvailabilityIndex index = new ReservationAvailabilityIndex(reservationRepository);
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        // {예약 ID, 빈집 ID, 시작일, 종료일}
+        rows.add(new Object[]{1L, 10L, day(1), day(5)});
+        rows.add(new Object[]{2L, 10L, day(5), day(8)});
+        rows.add(new Object[]{3L, 20L, day(3), day(4)});
+        when(reservationRepository.findActivePeriods(eq(Reservation.STATUS_CANCELLED), any())).thenReturn(rows);
+        index.load();
+    }
+
+    @Test
+    void detectsOverlapsOnHalfOpenRanges() {
+        assertThat(index.hasConflict(10L, day(3), day(6), null)).isTrue();
+        assertThat(index.hasConflict(10L, day(0), day(2), null)).isTrue();
+        assertThat(index.hasConflict(10L, day(7), day(9), null)).isTrue();
+        // 퇴실일 당일 입실, 입실일에 퇴실은 겹치지 않는다
+        assertThat(index.isAvailable(10L, day(8), day(10))).isTrue();
+        assertThat(index.isAvailable(10L, day(0), day(1))).isTrue();
+        // 다른 빈집/예약 없는 빈집
+        assertThat(index.isAvailable(20L, day(1), day(3))).isTrue();
+        assertThat(index.isAvailable(30L, day(1), day(8))).isTrue();
+    }
+
+    @Test
+    void excludesOwnReservationWhenChangingDates() {
+        assertThat(index.hasConflict(10L, day(5), day(7), 2L)).isFalse();
+        assertThat(index.hasConflict(10L, day(4), day(7), 2L)).isTrue();
+        // 두 예약에 걸친 기간은 한쪽을 제외해도 다른 쪽과 충돌한다
+        assertThat(index.hasConflict(10L, day(2), day(6), 1L)).isTrue();
+    }
+
+    @Test
+    void reloadReplacesOneHouseFromDatabase() {
+        // 다른 인스턴스에서 예약 1 취소, 예약 4 생성
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{2L, day(5), day(8)});
+        rows.add(new Object[]{4L, day(10), day(12)});
+        when(reservationRepository.findActivePeriodsByHouse(eq(10L), eq(Reservation.STATUS_CANCELLED), any())).thenReturn(rows);
+
+        index.reload(10L);
+
+        assertThat(index.isAvailable(10L, day(1), day(5))).isTrue();
+        assertThat(index.isAvailable(10L, day(5), day(6))).isFalse();
+        assertThat(index.isAvailable(10L, day(11), day(13))).isFalse();
+        assertThat(index.isAvailable(20L, day(3), day(4))).isFalse();
+
+        List<LocalDate> starts = new ArrayList<>();
+        index.forEachBooking(10L, (vacantHouseId, startDate, endDate) -> starts.add(startDate));
+        assertThat(starts).containsExactly(day(5), day(10));
+    }
+
+    @Test
+    void reloadDropsHouseWithoutBookings() {
+        when(reservationRepository.findActivePeriodsByHouse(eq(20L), eq(Reservation.STATUS_CANCELLED), any())).thenReturn(List.of());
+
+        index.reload(20L);
+
+        List<Long> houses = new ArrayList<>();
+        index.forEachBooking((vacantHouseId, startDate, endDate) -> houses.add(vacantHouseId));
+        assertThat(houses).containsOnly(10L);
+    }
+
+    @Test
+    void removesEndedBookings() {
+        index.removeEndedBefore(day(5));
+
+        assertThat(index.isAvailable(10L, day(1), day(5))).isTrue();
+        assertThat(index.isAvailable(10L, day(5), day(6))).isFalse();
+        assertThat(index.isAvailable(20L, day(3), day(4))).isTrue();
+    }
+
+    private static LocalDate day(int offset) {
+        return DAY.plusDays(offset);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ddasum.domain.reservation.index;
+
+import com.ddasum.domain.reservation.entity.Reservation;
+import com.ddasum.domain.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 기간 인덱스로부터의 달력 구성, 빈집 단위 재구성, 지난 날짜/예약 가능 기간 밖 처리 확인
+ */
+class ReservationCalendarIndexTest {
+
+    private final LocalDate today = LocalDate.now();
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final ReservationAvailabilityIndex availabilityIndex = new ReservationAvailabilityIndex(reservationRepository);
+    private final ReservationCalendarIndex calendarIndex = new ReservationCalendarIndex(availabilityIndex);
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        // 기준일 이전부터 이어진 예약과 앞으로의 예약
+        rows.add(new Object[]{1L, 10L, today.minusDays(3), today.plusDays(1)});
+        rows.add(new Object[]{2L, 10L, today.plusDays(3), today.plusDays(5)});
+        // 오늘 퇴실하는 예약 (적재 후 날짜가 바뀐 경우)
+        rows.add(new Object[]{5L, 30L, today.minusDays(5), today});
+        when(reservationRepository.findActivePeriods(eq(Reservation.STATUS_CANCELLED), any())).thenReturn(rows);
+        availabilityIndex.load();
+        calendarIndex.load();
+    }
+
+    @Test
+    void buildsCalendarFromBookings() {
+        // 어제(지난 날짜) ~ 6일 후
+        assertThat(calendarIndex.calendar(10L, today.minusDays(1), today.plusDays(6)))
+                .isEqualTo("11001100");
+    }
+
+    @Test
+    void reloadRebuildsOneHouse() {
+        // 다른 인스턴스에서 예약 2 취소, 6일 후 예약 추가
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, today.minusDays(3), today.plusDays(1)});
+        rows.add(new Object[]{3L, today.plusDays(6), today.plusDays(7)});
+        when(reservationRepository.findActivePeriodsByHouse(eq(10L), eq(Reservation.STATUS_CANCELLED), any()))
+                .thenReturn(rows);
+
+        availabilityIndex.reload(10L);
+        calendarIndex.reload(10L);
+
+        assertThat(calendarIndex.calendar(10L, today, today.plusDays(7))).isEqualTo("10000010");
+    }
+
+    @Test
+    void unknownHouseIsFreeExceptPastDaysAndBeyondHorizon() {
+        assertThat(calendarIndex.calendar(99L, today.minusDays(2), today.plusDays(1))).isEqualTo("1100");
+
+        int horizon = ReservationCalendarIndex.HORIZON_DAYS;
+        assertThat(calendarIndex.calendar(99L, today.plusDays(horizon - 1), today.plusDays(horizon))).isEqualTo("01");
+    }
+
+    @Test
+    void farFutureBookingIsCappedAtHorizon() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{4L, today.plusDays(10), today.plusYears(100)});
+        when(reservationRepository.findActivePeriodsByHouse(eq(20L), eq(Reservation.STATUS_CANCELLED), any()))
+                .thenReturn(rows);
+
+        availabilityIndex.reload(20L);
+        calendarIndex.reload(20L);
+
+        assertThat(calendarIndex.calendar(20L, today.plusDays(9), today.plusDays(11))).isEqualTo("011");
+        assertThat(calendarIndex.calendar(20L, today.plusYears(99), today.plusYears(99))).isEqualTo("1");
+    }
+
+    @Test
+    void rebaseDropsEndedBookings() {
+        calendarIndex.rebase();
+
+        List<Long> houses = new ArrayList<>();
+        availabilityIndex.forEachBooking((vacantHouseId, startDate, endDate) -> houses.add(vacantHouseId));
+        assertThat(houses).containsOnly(10L);
+        assertThat(calendarIndex.calendar(10L, today, today.plusDays(4))).isEqualTo("10011");
+    }
+}
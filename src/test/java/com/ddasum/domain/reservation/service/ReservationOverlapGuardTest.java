@@ -0,0 +1,171 @@
+package com.ddasum.domain.reservation.service;
+
+import com.ddasum.domain.reservation.dto.ReservationCreateRequest;
+import com.ddasum.domain.reservation.dto.ReservationResponse;
+import com.ddasum.domain.reservation.dto.ReservationUpdateRequest;
+import com.ddasum.domain.reservation.entity.Reservation;
+import com.ddasum.domain.reservation.index.ReservationCalendarIndex;
+import com.ddasum.domain.reservation.index.ReservationIndexSynchronizer;
+import com.ddasum.domain.reservation.repository.ReservationRepository;
+import com.ddasum.domain.user.entity.User;
+import com.ddasum.domain.user.repository.UserRepository;
+import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 예약 겹침 검사가 인스턴스별 메모리 인덱스가 아닌 DB(빈집 행 잠금 + 겹침 조회)로 이뤄지는지 확인
+ * 서비스 두 개를 각각 다른 인스턴스로 보고, 인덱스가 서로의 예약을 모르는 상태에서 동시에 예약한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationOverlapGuardTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 5, 1);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VacantHouseRepository vacantHouseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+    private Long houseId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        userId = userRepository.save(User.builder()
+                .username("guest")
+                .password("pw")
+                .email("guest@example.com")
+                .role("USER")
+                .build()).getId();
+        houseId = vacantHouseRepository.save(VacantHouse.builder()
+                .address("강릉시 바닷가")
+                .region("강원")
+                .price(10000)
+                .available(true)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tbl_reservation");
+        jdbcTemplate.update("delete from tbl_vacant_house");
+        jdbcTemplate.update("delete from tbl_user");
+    }
+
+    @Test
+    void onlyOneOfConcurrentOverlappingBookingsFromDifferentNodesSucceeds() throws Exception {
+        ReservationServiceImpl nodeA = newNode();
+        ReservationServiceImpl nodeB = newNode();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<Boolean> first = pool.submit(() -> tryCreate(start, () -> nodeA.createReservation(request(0, 3))));
+            Future<Boolean> second = pool.submit(() -> tryCreate(start, () -> nodeB.createReservation(request(2, 5))));
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>();
+            results.add(first.get(10, TimeUnit.SECONDS));
+            results.add(second.get(10, TimeUnit.SECONDS));
+
+            assertThat(results).containsExactlyInAnyOrder(true, false);
+            assertThat(reservationRepository.count()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void updateIgnoresItselfAndCancelledBookings() {
+        ReservationServiceImpl service = newNode();
+        ReservationResponse first = inTransaction(() -> service.createReservation(request(0, 3)));
+        ReservationResponse second = inTransaction(() -> service.createReservation(request(3, 5)));
+
+        // 자기 자신과는 겹쳐도 되고, 다른 예약과 겹치면 거절
+        inTransaction(() -> service.updateReservation(first.getId(), update(1, 3, Reservation.STATUS_IN_PROGRESS)));
+        assertThatThrownBy(() -> inTransaction(() ->
+                service.updateReservation(first.getId(), update(1, 4, Reservation.STATUS_IN_PROGRESS))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 취소된 예약의 기간은 다시 예약할 수 있다
+        inTransaction(() -> service.updateReservation(second.getId(), update(3, 5, Reservation.STATUS_CANCELLED)));
+        assertThat(inTransaction(() -> service.createReservation(request(3, 5))).getId()).isNotNull();
+    }
+
+    private ReservationServiceImpl newNode() {
+        return new ReservationServiceImpl(reservationRepository, userRepository, vacantHouseRepository,
+                mock(ReservationCalendarIndex.class), mock(ReservationIndexSynchronizer.class));
+    }
+
+    private boolean tryCreate(CountDownLatch start, Supplier<ReservationResponse> create) throws InterruptedException {
+        start.await();
+        try {
+            inTransaction(create);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private ReservationCreateRequest request(int startOffset, int endOffset) {
+        ReservationCreateRequest request = new ReservationCreateRequest();
+        request.setUserId(userId);
+        request.setVacantHouseId(houseId);
+        request.setStartDate(DAY.plusDays(startOffset));
+        request.setEndDate(DAY.plusDays(endOffset));
+        request.setPeopleCount(2);
+        return request;
+    }
+
+    private static ReservationUpdateRequest update(int startOffset, int endOffset, String status) {
+        ReservationUpdateRequest request = new ReservationUpdateRequest();
+        request.setStartDate(DAY.plusDays(startOffset));
+        request.setEndDate(DAY.plusDays(endOffset));
+        request.setPeopleCount(2);
+        request.setStatus(status);
+        return request;
+    }
+}
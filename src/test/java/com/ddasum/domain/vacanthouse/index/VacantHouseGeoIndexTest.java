@@ -0,0 +1,123 @@
+package com.ddasum.domain.vacanthouse.index;
+
+import com.ddasum.domain.vacanthouse.dto.VacantHouseLocationResponse;
+import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VacantHouseGeoIndexTest {
+
+    private final VacantHouseGeoIndex index = new VacantHouseGeoIndex(mock(VacantHouseRepository.class));
+
+    @Test
+    void returnsEveryPointWhenKExceedsReachablePoints() {
+        index.put(1L, 37.5700, 126.9800);
+        index.put(2L, 37.5710, 126.9810);
+        index.put(3L, 37.6000, 127.0500);
+        index.put(4L, 0.0, 0.0); // 좌표 누락으로 들어온 먼 이상치
+
+        List<VacantHouseLocationResponse> nearest = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> index.findNearest(37.5701, 126.9801, 10));
+
+        assertThat(nearest).extracting(VacantHouseLocationResponse::getId).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void syncAppliesChangesMadeOnOtherInstances() {
+        VacantHouseRepository repository = mock(VacantHouseRepository.class);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Object[]> locations = new ArrayList<>();
+        locations.add(new Object[]{1L, 37.5700, 126.9800});
+        locations.add(new Object[]{2L, 35.1000, 129.0300});
+        when(repository.findAllLocations()).thenReturn(locations);
+        when(repository.findIndexWatermark()).thenReturn(watermark(2, base));
+        VacantHouseGeoIndex synced = new VacantHouseGeoIndex(repository);
+        synced.load();
+
+        // 다른 인스턴스에서 1번 좌표 이동, 3번 등록
+        List<Object[]> changed = new ArrayList<>();
+        changed.add(new Object[]{1L, 33.5000, 126.5300});
+        changed.add(new Object[]{3L, 37.7500, 128.9000});
+        when(repository.findIndexWatermark()).thenReturn(watermark(3, base.plusMinutes(5)));
+        when(repository.findLocationsUpdatedSince(any(), any(), any())).thenReturn(changed);
+        when(repository.countLocated()).thenReturn(3L);
+        synced.syncWithDatabase();
+
+        assertThat(synced.findWithin(33.0, 126.0, 34.0, 127.0, 10))
+                .extracting(VacantHouseLocationResponse::getId).containsExactly(1L);
+        assertThat(synced.size()).isEqualTo(3);
+
+        // 다른 곳에서 2번 삭제 -> 건수가 달라 전체 재적재
+        List<Object[]> remaining = new ArrayList<>();
+        remaining.add(new Object[]{1L, 33.5000, 126.5300});
+        remaining.add(new Object[]{3L, 37.7500, 128.9000});
+        when(repository.findAllLocations()).thenReturn(remaining);
+        when(repository.findLocationsUpdatedSince(any(), any(), any())).thenReturn(List.of());
+        when(repository.countLocated()).thenReturn(2L);
+        synced.syncWithDatabase();
+
+        assertThat(synced.size()).isEqualTo(2);
+        assertThat(synced.findWithin(35.0, 128.9, 35.2, 129.1, 10)).isEmpty();
+    }
+
+    private static List<Object[]> watermark(long count, LocalDateTime updatedAt) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{count, updatedAt});
+        return rows;
+    }
+
+    @Test
+    void matchesBruteForceOrder() {
+        Random random = new Random(42);
+        for (long id = 1; id <= 2000; id++) {
+            index.put(id, 37 + random.nextDouble(), 126.5 + random.nextDouble());
+        }
+
+        List<VacantHouseLocationResponse> nearest = index.findNearest(37.5, 127.0, 20);
+        List<VacantHouseLocationResponse> all = index.findNearest(37.5, 127.0, 5000);
+
+        assertThat(all).hasSize(2000);
+        assertThat(nearest).extracting(VacantHouseLocationResponse::getId)
+                .containsExactlyElementsOf(all.subList(0, 20).stream().map(VacantHouseLocationResponse::getId).toList());
+    }
+
+    @Test
+    void finishesWhilePointsAreRemovedConcurrently() throws Exception {
+        for (long id = 1; id <= 1000; id++) {
+            index.put(id, 37.5 + id * 0.001, 127.0);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            long id = 1;
+            while (running.get()) {
+                index.remove(id);
+                index.put(id, 37.5 + id * 0.001, 127.0);
+                id = id % 1000 + 1;
+            }
+        });
+        writer.start();
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i < 200; i++) {
+                    // 전체보다 큰 k: 예전에는 방문 수가 전체 수에 못 미치면 끝나지 않았다
+                    assertThat(index.findNearest(37.5, 127.0, 2000)).hasSizeLessThanOrEqualTo(1000);
+                }
+            });
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.ddasum.domain.vacanthouse.index;
+
+import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 한 글자 검색과 DB 기준 동기화(재시작 후 누락분, 다른 곳에서 삭제된 빈집) 확인
+ */
+class VacantHouseSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @TempDir
+    Path indexDir;
+
+    // 가짜 TBL_VACANT_HOUSE (id -> 빈집)
+    private final Map<Long, VacantHouse> table = new ConcurrentSkipListMap<>();
+    private final VacantHouseRepository repository = mock(VacantHouseRepository.class);
+    private VacantHouseSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findIndexWatermark()).thenAnswer(invocation -> {
+            LocalDateTime max = table.values().stream()
+                    .map(VacantHouse::getUpdatedAt)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{(long) table.size(), max});
+            return rows;
+        });
+        when(repository.findAfterId(any(), any())).thenAnswer(invocation -> {
+            Long afterId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return table.values().stream()
+                    .filter(house -> house.getId() > afterId)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(repository.findIdsAfter(any(), any())).thenAnswer(invocation -> {
+            Long afterId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return table.keySet().stream()
+                    .filter(id -> id > afterId)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(repository.findUpdatedSince(any(), any(), any())).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            Long afterId = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            return table.values().stream()
+                    .filter(house -> !house.getUpdatedAt().isBefore(since) && house.getId() > afterId)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Test
+    void singleSyllableQueryMatchesUnigrams() throws Exception {
+        save(1L, "서울시 종로구 빈집", 0);
+        save(2L, "부산시 해운대구 주택", 0);
+        save(3L, "시", 0);
+        index = open();
+
+        assertThat(index.search("집", 10)).containsExactly(1L);
+        assertThat(index.search("택", 10)).containsExactly(2L);
+        assertThat(index.search("해", 10)).containsExactly(2L);
+        assertThat(index.search("빈집", 10)).containsExactly(1L);
+        // 한 글자짜리 값도 찾는다
+        assertThat(index.search("시", 10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void catchesUpWithChangesMadeWhileClosed() throws Exception {
+        save(1L, "서울시 종로구 빈집", 0);
+        index = open();
+        index.close();
+
+        // 내려가 있는 동안 다른 인스턴스가 수정/등록
+        save(1L, "서울시 종로구 한옥", 10);
+        save(2L, "강릉시 바닷가 주택", 20);
+        index = open();
+
+        assertThat(index.search("한옥", 10)).containsExactly(1L);
+        assertThat(index.search("빈집", 10)).isEmpty();
+        assertThat(index.search("바닷가", 10)).containsExactly(2L);
+        // 전체 재색인은 처음 한 번뿐이고 재시작 때는 수정분만 읽는다
+        verify(repository, times(1)).findAfterId(any(), any());
+    }
+
+    @Test
+    void removesHousesDeletedElsewhereWithoutFullReindex() throws Exception {
+        save(1L, "서울시 종로구 빈집", 0);
+        save(2L, "강릉시 바닷가 주택", 0);
+        index = open();
+        assertThat(index.search("바닷가", 10)).containsExactly(2L);
+
+        table.remove(2L);
+        index.syncWithDatabase();
+
+        assertThat(index.search("바닷가", 10)).isEmpty();
+        assertThat(index.search("빈집", 10)).containsExactly(1L);
+        verify(repository, times(1)).findAfterId(any(), any());
+    }
+
+    @Test
+    void reindexAllReplacesPreviousDocumentsInPlace() throws Exception {
+        save(1L, "서울시 종로구 빈집", 0);
+        save(2L, "강릉시 바닷가 주택", 0);
+        index = open();
+
+        table.remove(2L);
+        save(3L, "전주시 한옥 마을", 10);
+        index.reindexAll();
+
+        assertThat(index.search("바닷가", 10)).isEmpty();
+        assertThat(index.search("빈집", 10)).containsExactly(1L);
+        assertThat(index.search("한옥", 10)).containsExactly(3L);
+    }
+
+    private VacantHouseSearchIndex open() throws Exception {
+        VacantHouseSearchIndex opened = new VacantHouseSearchIndex(repository, indexDir.toString(), 3600);
+        opened.open();
+        return opened;
+    }
+
+    private void save(Long id, String address, int minutes) {
+        table.put(id, VacantHouse.builder()
+                .id(id)
+                .address(address)
+                .updatedAt(BASE.plusMinutes(minutes))
+                .build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.ddasum.domain.vacanthouse.service;
+
+import com.ddasum.core.api.response.CursorPageResponse;
+import com.ddasum.core.util.CursorUtil;
+import com.ddasum.domain.region.index.RegionSnapshot;
+import com.ddasum.domain.reservation.index.ReservationAvailabilityIndex;
+import com.ddasum.domain.vacanthouse.dto.VacantHouseResponse;
+import com.ddasum.domain.vacanthouse.entity.VacantHouse;
+import com.ddasum.domain.vacanthouse.index.VacantHouseGeoIndex;
+import com.ddasum.domain.vacanthouse.index.VacantHouseSearchIndex;
+import com.ddasum.domain.vacanthouse.repository.VacantHouseRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 가능 기간 조회가 id 키셋으로 나눠 읽고 커서로 이어지는지 확인
+ */
+class VacantHouseAvailablePagingTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 5);
+
+    private final VacantHouseRepository repository = mock(VacantHouseRepository.class);
+    private final ReservationAvailabilityIndex availabilityIndex = mock(ReservationAvailabilityIndex.class);
+    private VacantHouseServiceImpl service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new VacantHouseServiceImpl(repository, mock(VacantHouseGeoIndex.class),
+                mock(VacantHouseSearchIndex.class), availabilityIndex, mock(RegionSnapshot.class),
+                mock(EntityManager.class));
+        // id 1..1200 이 모두 임대 가능, 짝수 id 만 해당 기간 예약 가능
+        when(repository.findAvailableIdsFirst(any(Pageable.class)))
+                .thenAnswer(invocation -> idsBefore(1201, invocation.getArgument(0)));
+        when(repository.findAvailableIdsBefore(any(), any(Pageable.class)))
+                .thenAnswer(invocation -> idsBefore(invocation.getArgument(0), invocation.getArgument(1)));
+        when(availabilityIndex.isAvailable(anyLong(), any(), any()))
+                .thenAnswer(invocation -> (Long) invocation.getArgument(0) % 2 == 0);
+        when(repository.findAllById(any())).thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(0))
+                .stream()
+                .map(id -> VacantHouse.builder().id(id).address("addr" + id).build())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void pagesThroughAvailableHousesWithCursor() {
+        CursorPageResponse<VacantHouseResponse> first = service.getAvailableBetween(START, END, null, 3);
+
+        assertThat(first.getContent()).extracting(VacantHouseResponse::getId).containsExactly(1200L, 1198L, 1196L);
+        assertThat(first.isHasNext()).isTrue();
+
+        CursorPageResponse<VacantHouseResponse> second = service.getAvailableBetween(START, END, first.getNextCursor(), 3);
+
+        assertThat(second.getContent()).extracting(VacantHouseResponse::getId).containsExactly(1194L, 1192L, 1190L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPageResponse<VacantHouseResponse> page = service.getAvailableBetween(START, END, CursorUtil.encode(7L), 10);
+
+        assertThat(page.getContent()).extracting(VacantHouseResponse::getId).containsExactly(6L, 4L, 2L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private static List<Long> idsBefore(long cursorId, Pageable pageable) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = cursorId - 1; id >= 1 && ids.size() < pageable.getPageSize(); id--) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ddasum.domain.vacanthouse.service;
+
+import com.ddasum.domain.vacanthouse.dto.VacantHouseImportResponse;
+import com.ddasum.domain.vacanthouse.index.VacantHouseGeoIndex;
+import com.ddasum.domain.vacanthouse.index.VacantHouseSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대량 등록 처리량 측정 (H2, 청크별 커밋)
+ * INSERT 가 배치로 묶이는지는 준비된 SQL 수로 확인하고, 처리량은 로그로 남긴다.
+ * 목표(초당 1만 건)는 실제 MariaDB 에서 응답의 rowsPerSecond 로 확인한다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VacantHouseImportThroughputTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tbl_vacant_house");
+    }
+
+    @Test
+    void importsCsvWithBatchedInserts() throws Exception {
+        VacantHouseImportServiceImpl service = new VacantHouseImportServiceImpl(entityManager,
+                new TransactionTemplate(transactionManager), mock(VacantHouseGeoIndex.class), mock(VacantHouseSearchIndex.class));
+        StringBuilder csv = new StringBuilder("address,region,latitude,longitude,description,price,available,imageUrl\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("서울시 종로구 ").append(i).append(",서울,37.5,127.0,\"설명, ").append(i).append("\",")
+                    .append(10000 + i).append(",true,\n");
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        VacantHouseImportResponse response = service.importCsv(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        log.info("빈집 대량 등록 처리량: {}건 / {}ms = {}건/초, 준비된 SQL {}개",
+                ROWS, response.getElapsedMillis(), response.getRowsPerSecond(), statistics.getPrepareStatementCount());
+        assertThat(response.getSuccessCount()).isEqualTo(ROWS);
+        assertThat(response.getFailureCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tbl_vacant_house", Long.class)).isEqualTo(ROWS);
+        // 행마다 INSERT 를 준비했다면 ROWS 개 이상 (배치 50건 + 시퀀스 50개 단위면 수백 개 수준)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+        assertThat(response.getRowsPerSecond()).isPositive();
+    }
+}